@@ -1,5 +1,19 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 /**
  * Class ArrayList
  * @author Houria Oudghiri
@@ -7,19 +21,39 @@ import java.util.ListIterator;
  * Date of last modification: November 6, 2022
  * Last modified by Tina Pham
  */
-public class ArrayList<E> implements Cloneable, List<E>{
+public class ArrayList<E> implements Cloneable, RandomAccess, List<E>{
+   // Lists at least this large are sorted with a parallel fork-join sort
+   private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+   // Growth by half, shrinking once less than 1 / 2.25 full
+   private static final GrowthPolicy DEFAULT_POLICY = GrowthPolicy.geometric(1.5);
    // data members
    private E[] elements;
    private int size;
+   private final GrowthPolicy policy;
+   // Capacity asked for by the constructor or ensureCapacity, the array never shrinks below it
+   private int requestedCapacity;
+   // Gap of removed slots left by a list iterator: elements[gapStart, gapStart + gapLength)
+   // is empty and the elements after it are shifted by gapLength until the gap is closed
+   private int gapStart;
+   private int gapLength;
+   // Lists sharing the array since clone() (this one included), null while the array belongs
+   // to this list only. The shared array is copied before its first write by any of them
+   private AtomicInteger sharers;
    // Constructors
    // O(1)
    public ArrayList() {
-	   elements = (E[]) new Object[10];
-	   size = 0;
+	   this(GrowthPolicy.MIN_CAPACITY, DEFAULT_POLICY);
    }
    public ArrayList(int capacity) {
+     this(capacity, DEFAULT_POLICY);
+   }
+   public ArrayList(int capacity, GrowthPolicy policy) {
+     if(policy == null)
+       throw new NullPointerException();
      elements = (E[]) new Object[capacity];
      size = 0;
+     this.policy = policy;
+     requestedCapacity = capacity;
    }
    // Adding an item to the list (2 methods)
    // O(1) - O(n)
@@ -27,12 +61,14 @@ public class ArrayList<E> implements Cloneable, List<E>{
 		return add(size, item);
     }
     public boolean add(int index, E item){
+		closeGap();
 		if(index > size || index < 0)
 			throw new ArrayIndexOutOfBoundsException();
-		ensureCapacity();
-		for(int i=size-1; i>=index; i--){
-			elements[i+1] = elements[i];
-        }
+		grow(size + 1);
+		beforeWrite();
+		if(ListMetrics.enabled)
+			ListMetrics.shifted(size - index);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
 		elements[index] = item;
 		size++;
 		return true;
@@ -40,11 +76,14 @@ public class ArrayList<E> implements Cloneable, List<E>{
     // Getter and Setter
     // O(1)
     public E get(int index) {
+		  closeGap();
 		  checkIndex(index);
 		  return elements[index];
     }
     public E set(int index, E item) {
+		  closeGap();
 		  checkIndex(index);
+		  beforeWrite();
 		  E oldItem = elements[index];
 		  elements[index] = item;
 		  return oldItem;
@@ -54,10 +93,18 @@ public class ArrayList<E> implements Cloneable, List<E>{
     public int size() { 
       return size; 
     }
-    // Clear the list
-    // O(1)
+    // Clear the list, the array is shrunk as the growth policy allows
+    // A shared array is left to the other lists and a new empty one is allocated
+    // O(n)
     public void clear() { 
-      size = 0; 
+      closeGap();
+      if(sharers != null) {
+        releaseShare();
+        elements = (E[]) new Object[Math.max(policy.shrink(elements.length, 0), requestedCapacity)];
+        size = 0;
+        return;
+      }
+      releaseFrom(0);
     }
     // Check if the list is empty
     // O(1)
@@ -67,6 +114,7 @@ public class ArrayList<E> implements Cloneable, List<E>{
     // Removing an object from the list
     // O(n)
     public boolean remove(Object o) {
+      closeGap();
       E item = (E) o;
       for(int i=0; i<size; i++)
 		    if(elements[i].equals(item)){
@@ -78,34 +126,79 @@ public class ArrayList<E> implements Cloneable, List<E>{
     // Removing the item at index from the list
     // O(n)
     public boolean remove(int index) {
+      closeGap();
       checkIndex(index);
-      E item = elements[index];
-      for(int i=index; i<size-1; i++)
-			  elements[i] = elements[i+1];
-      size--;
+      beforeWrite();
+      if(ListMetrics.enabled)
+        ListMetrics.shifted(size - index - 1);
+      System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+      elements[--size] = null;
+      shrinkIfSparse();
       return true;
     }
-    // Shrink the list to size
+    // Shrink the list to size, which becomes the capacity asked for
     // O(n)
     public void trimToSize() {
+		  closeGap();
+		  requestedCapacity = size;
 		  if (size != elements.length) {
-			    E[] newElements = (E[]) new Object[size];// capacity = size
-			    for(int i=0; i<size; i++)
-				    newElements[i] = elements[i];
-			    elements = newElements;
+			    elements = Arrays.copyOf(elements, size);// capacity = size
+			    releaseShare();
 		  }
     }
-    // Grow the list if needed
+    // Growth policy of the list
+    // O(1)
+    public GrowthPolicy growthPolicy() {
+      return policy;
+    }
+    // Grow the list if needed so that it can hold minCapacity elements
+    // The array is not shrunk below minCapacity until trimToSize()
+    // O(n)
+    public void ensureCapacity(int minCapacity) {
+	    closeGap();
+	    requestedCapacity = Math.max(requestedCapacity, minCapacity);
+	    grow(minCapacity);
+    }
+    // Grow the array if needed so that it can hold minCapacity elements
+    // The policy grows by a factor or by fixed steps, see GrowthPolicy
     // O(n)
-    private void ensureCapacity() {
-	    if(size >= elements.length) {
-          int newCap = (int) (elements.length * 1.5);
-		      E[] newElements = (E[]) new Object[newCap];
-		      for(int i=0; i<size; i++)
-				    newElements[i] = elements[i];
-		      elements = newElements;
+    private void grow(int minCapacity) {
+	    if(minCapacity > elements.length) {
+          int newCap = policy.grow(elements.length, minCapacity);
+          if(ListMetrics.enabled)
+            ListMetrics.resized(this, elements.length, newCap, size);
+		      elements = Arrays.copyOf(elements, newCap);
+          releaseShare();
 	    }
     }
+    // Shrink the array after a removal if the policy asks for it, down to the capacity asked for
+    // O(1) amortized, the policy waits for a large share of the array to be free
+    private void shrinkIfSparse() {
+      int newCap = Math.max(policy.shrink(elements.length, size), requestedCapacity);
+      if(newCap < elements.length) {
+        if(ListMetrics.enabled)
+          ListMetrics.resized(this, elements.length, newCap, size);
+        elements = Arrays.copyOf(elements, newCap);
+        releaseShare();
+      }
+    }
+    // Copy the array before a write if another list still shares it
+    // O(1) - O(n) for the first write after clone()
+    private void beforeWrite() {
+      if(sharers == null)
+        return;
+      if(sharers.get() > 1)
+        elements = Arrays.copyOf(elements, elements.length);
+      releaseShare();
+    }
+    // Stop sharing the array, called once this list has an array of its own
+    // O(1)
+    private void releaseShare() {
+      if(sharers != null) {
+        sharers.decrementAndGet();
+        sharers = null;
+      }
+    }
     // Check if the index is valid
     // O(1)
     private void checkIndex(int index){
@@ -116,44 +209,39 @@ public class ArrayList<E> implements Cloneable, List<E>{
     // toString() method
     // O(n)
     public String toString() {
-		  String output = "[";
-		  for(int i=0; i<size-1; i++)
-			    output += elements[i] + " ";
-		  output += elements[size-1] + "]";
-		  return output;
+		  closeGap();
+		  StringBuilder output = new StringBuilder("[");
+		  for(int i=0; i<size; i++){
+			    if(i > 0)
+			      output.append(' ');
+			    output.append(elements[i]);
+		  }
+		  return output.append(']').toString();
     }
-    // Iterator for the list
+    // Iterator for the list, its remove() has the lazy compaction of the list iterator
     // O(1)
     public Iterator<E> iterator(){
-		  return new ArrayIterator();
+		  return listIterator(0);
     }
-    // Inner class that implements the interface Iterator<E>
+    // Clone method, copy on write: the copy shares the array with this list and the first
+    // write to either list copies it (a copy dropped without a write still counts as a sharer)
     // O(1)
-    private class ArrayIterator implements Iterator<E>{
-	    private int current = -1;
-
-      // O(1)
-	    public boolean hasNext() { 
-        return current < size-1; 
-      }
-
-      // O(1)
-	    public E next() { 
-        return elements[++current]; 
-      }
-    }
-    // Clone method (deep copy)
-    // O(n)
     public Object clone(){
-        ArrayList<E> copy = new ArrayList<>();
-        for(int i=0; i<size; i++){
-            copy.add(elements[i]);
-        }
+        closeGap();
+        if(sharers == null)
+            sharers = new AtomicInteger(1);
+        sharers.incrementAndGet();
+        ArrayList<E> copy = new ArrayList<>(0, policy);
+        copy.elements = elements;
+        copy.size = size;
+        copy.requestedCapacity = requestedCapacity;
+        copy.sharers = sharers;
         return copy;
     }
     // Search for a value in the list
     // O(n)
     public boolean contains(Object o){
+        closeGap();
         E value = (E) o;
         Iterator<E> iter = iterator();
         while(iter.hasNext()){
@@ -163,125 +251,362 @@ public class ArrayList<E> implements Cloneable, List<E>{
         }
         return false;
     }
-    // Search for another list in the list
-    // O(n)
-    public boolean containsAll(List<E> otherList){
-        for(int i = 0; i < otherList.size(); i++){
-            if(!contains(otherList.get(i))){
-                return false;
-            }
-        }
-        return true;
-    }
-    // Adding another list to the list
-    // O(n)
+    // Adding another list to the end of the list
+    // O(m) amortized
     public boolean addAll(List<E> otherList){
-        int lastSize = size;
-        for(int i = 0; i < otherList.size(); i++){
-          add(otherList.get(i));
-        }
-        return lastSize != size;
+        return addAll(size, otherList);
+    }
+    // Adding another list to the list at a specific index
+    // Grows once and shifts the tail once
+    // O(n + m)
+    public boolean addAll(int index, List<E> otherList){
+        closeGap();
+        if(index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        Object[] values = otherList.toArray();
+        int count = values.length;
+        grow(size + count);
+        beforeWrite();
+        if(ListMetrics.enabled)
+            ListMetrics.shifted(size - index);
+        System.arraycopy(elements, index, elements, index + count, size - index);
+        System.arraycopy(values, 0, elements, index, count);
+        size += count;
+        return count != 0;
     }
     // Removing elements of otherList
-    // O(n)
+    // Each element of otherList removes at most one matching element of this list
+    // O(n + m) - single compacting pass over elements
     public boolean removeAll(List<E> otherList){
+      closeGap();
+      beforeWrite();
       int lastSize = size;
-      for(int i = 0; i < otherList.size(); i++){
-        if(this.contains(otherList.get(i))){
-          remove(otherList.get(i));
+      HashMap<E, Integer> counts = Lists.valueCounts(otherList);
+      int kept = 0;
+      for(int i = 0; i < size; i++){
+        Integer count = counts.get(elements[i]);
+        if(count != null && count > 0){
+          counts.put(elements[i], count - 1);
+        } else {
+          elements[kept++] = elements[i];
         }
       }
+      releaseFrom(kept);
       return lastSize != size;
     }
     // Retaining only the elements from otherList
-    // O(n)
+    // O(n + m) - single compacting pass over elements
     public boolean retainAll(List<E> otherList){
+      closeGap();
+      beforeWrite();
+      int lastSize = size;
+      HashSet<E> values = Lists.valueSet(otherList);
+      int kept = 0;
+      for(int i = 0; i < size; i++){
+        if(values.contains(elements[i])){
+          elements[kept++] = elements[i];
+        }
+      }
+      releaseFrom(kept);
+      return lastSize != size;
+    }
+    // Removing the elements that match filter
+    // Single compacting pass, each kept element is moved at most once
+    // If filter throws, the elements not tested yet are kept
+    // O(n)
+    public boolean removeIf(Predicate<? super E> filter){
+      closeGap();
+      beforeWrite();
       int lastSize = size;
-      for(int i = 0; i < otherList.size(); i++){
-          if(!this.contains(otherList.get(i))){
-            remove(otherList.get(i));
+      int kept = 0;
+      int i = 0;
+      try {
+        for(; i < size; i++){
+          if(!filter.test(elements[i])){
+            elements[kept++] = elements[i];
           }
+        }
+      } finally {
+        if(i < size){
+          System.arraycopy(elements, i, elements, kept, size - i);
+          kept += size - i;
+        }
+        releaseFrom(kept);
       }
       return lastSize != size;
     }
+    // Replacing each element by the result of operator on it
+    // O(n)
+    public void replaceAll(UnaryOperator<E> operator){
+      closeGap();
+      beforeWrite();
+      for(int i = 0; i < size; i++){
+        elements[i] = operator.apply(elements[i]);
+      }
+    }
+    // Removing the elements from fromIndex (inclusive) to toIndex (exclusive)
+    // One block shift of the tail
+    // O(n)
+    public void removeRange(int fromIndex, int toIndex){
+      closeGap();
+      Lists.checkRange(fromIndex, toIndex, size);
+      beforeWrite();
+      if(ListMetrics.enabled)
+        ListMetrics.shifted(size - toIndex);
+      System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+      releaseFrom(size - (toIndex - fromIndex));
+    }
+    // Drop the elements from index newSize to the end after a compaction
+    // The vacated slots are cleared so that the removed elements can be collected
+    // O(n)
+    private void releaseFrom(int newSize){
+      Arrays.fill(elements, newSize, size, null);
+      size = newSize;
+      shrinkIfSparse();
+    }
+    // Close the gap left by a list iterator with one block shift of the elements after it
+    // O(n)
+    private void closeGap(){
+      if(gapLength == 0)
+        return;
+      int end = gapStart + gapLength;
+      int tail = size - gapStart;
+      if(ListMetrics.enabled)
+        ListMetrics.shifted(tail);
+      System.arraycopy(elements, end, elements, gapStart, tail);
+      Arrays.fill(elements, size, size + gapLength, null);
+      gapLength = 0;
+      shrinkIfSparse();
+    }
     // Method to get a list iterator for the list
     // O(1)
     public ListIterator<E> listIterator(){
-      return new ArrayListIterator();
+      return listIterator(0);
     }
     // Method to get a list iterator for the list at a specific position
     // O(1)
     public ListIterator<E> listIterator(int index){
-      checkIndex(index);
+      closeGap();
+      if(index < 0 || index > size)
+        throw new ArrayIndexOutOfBoundsException(
+            "Index out of bounds. Must be between 0 and "+size);
       return new ArrayListIterator(index);
     }
     // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    // remove() does not shift the tail: the removed slots form a gap that travels with the cursor,
+    // each step moves one element across it and add() fills it, so a pass that filters the list
+    // moves every element at most once
+    // The gap is dropped when it reaches the end of the list and closed by any other method of the list
     // O(1)
     private class ArrayListIterator implements ListIterator<E>{
-	    private int current;
-      
+      private int cursor;
+      // index of the element returned by the last next() or previous(), -1 after add() or remove()
+      private int lastReturned = -1;
+
       // O(1)
-      public ArrayListIterator(){
-        this.current = -1;
+      public ArrayListIterator(int index){
+        this.cursor = index;
       }
 
+      // The gap must sit at the cursor, another iterator may have left it elsewhere
+      // O(1) - O(n) to close a foreign gap
+      private void claimGap(){
+        if(gapLength != 0 && gapStart != cursor)
+          closeGap();
+      }
+
+      // Drop a gap that reached the end of the list, its slots are already empty
       // O(1)
-      public ArrayListIterator(int index){
-        this.current = index;
+      private void dropGapAtEnd(){
+        if(gapLength != 0 && gapStart == size){
+          gapLength = 0;
+          shrinkIfSparse();
+        }
       }
 
       // O(1)
 	    public boolean hasNext() { 
-        return current < size-1; 
+        return cursor < size; 
       }
 
       // O(1)
 	    public E next() { 
-        return elements[++current]; 
+        if(cursor >= size)
+          throw new NoSuchElementException();
+        claimGap();
+        if(gapLength != 0){
+          elements[cursor] = elements[cursor + gapLength];
+          elements[cursor + gapLength] = null;
+          gapStart++;
+        }
+        lastReturned = cursor;
+        E value = elements[cursor++];
+        dropGapAtEnd();
+        return value;
       }
 
       // O(1)
       public boolean hasPrevious(){
-        return current >= 0;
+        return cursor > 0;
       }
 
       // O(1)
       public E previous(){
-        return elements[current--];
+        if(cursor <= 0)
+          throw new NoSuchElementException();
+        claimGap();
+        cursor--;
+        if(gapLength != 0){
+          elements[cursor + gapLength] = elements[cursor];
+          elements[cursor] = null;
+          gapStart--;
+        }
+        lastReturned = cursor;
+        return elements[cursor + gapLength];
       }
 
-      // O(1)
+      // Insert value before the cursor, into the gap if there is one
+      // O(1) with a gap - O(n) otherwise
       public void add(E value){
-        throw new UnsupportedOperationException();
+        claimGap();
+        if(gapLength != 0){
+          elements[cursor] = value;
+          gapStart++;
+          gapLength--;
+          size++;
+        } else {
+          ArrayList.this.add(cursor, value);
+        }
+        cursor++;
+        lastReturned = -1;
       }
 
+      // Remove the element returned by the last next() or previous() by widening the gap
       // O(1)
       public void remove(){
-        throw new UnsupportedOperationException();
+        if(lastReturned < 0)
+          throw new IllegalStateException();
+        beforeWrite();
+        claimGap();
+        if(lastReturned < cursor){
+          // returned by next(), just before the cursor and the gap
+          elements[lastReturned] = null;
+          cursor = lastReturned;
+          gapStart = cursor;
+        } else {
+          // returned by previous(), just after the gap
+          elements[cursor + gapLength] = null;
+          gapStart = cursor;
+        }
+        gapLength++;
+        size--;
+        lastReturned = -1;
+        dropGapAtEnd();
       }
 
       // O(1)
       public void set(E value){
-        throw new UnsupportedOperationException();
+        if(lastReturned < 0)
+          throw new IllegalStateException();
+        beforeWrite();
+        claimGap();
+        elements[(lastReturned < cursor) ? lastReturned : lastReturned + gapLength] = value;
       }
 
       // O(1)
       public int nextIndex(){
-        throw new UnsupportedOperationException();
+        return cursor;
       }
 
       // O(1)
       public int previousIndex(){
-        throw new UnsupportedOperationException();
+        return cursor - 1;
       }
     }
-    // Method to get the elements of the list as an array of type Object
+    // Sort the list in place with a stable merge sort (TimSort)
+    // Large lists are split into runs sorted and merged in parallel on the common fork-join pool
+    // O(n log n)
+    public void sort(Comparator<? super E> c){
+      closeGap();
+      beforeWrite();
+      if(size >= PARALLEL_SORT_THRESHOLD)
+        Arrays.parallelSort(elements, 0, size, c);
+      else
+        Arrays.sort(elements, 0, size, c);
+    }
+    // Spliterator for the list, split by index range
     // O(1)
+    public Spliterator<E> spliterator(){
+      closeGap();
+      return new ArraySpliterator(0, size);
+    }
+    // Inner class that implements the interface Spliterator<E> over [origin, fence)
+    private class ArraySpliterator implements Spliterator<E>{
+      private int origin;
+      private final int fence;
+
+      // O(1)
+      public ArraySpliterator(int origin, int fence){
+        this.origin = origin;
+        this.fence = fence;
+      }
+
+      // O(1)
+      public Spliterator<E> trySplit(){
+        int middle = (origin + fence) >>> 1;
+        if(middle <= origin)
+          return null;
+        Spliterator<E> prefix = new ArraySpliterator(origin, middle);
+        origin = middle;
+        return prefix;
+      }
+
+      // O(1)
+      public boolean tryAdvance(Consumer<? super E> action){
+        if(origin >= fence)
+          return false;
+        action.accept(elements[origin++]);
+        return true;
+      }
+
+      // O(fence - origin)
+      public void forEachRemaining(Consumer<? super E> action){
+        E[] values = elements;
+        for(int i = origin; i < fence; i++)
+          action.accept(values[i]);
+        origin = fence;
+      }
+
+      // O(1)
+      public long estimateSize(){
+        return fence - origin;
+      }
+
+      // O(1)
+      public int characteristics(){
+        return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+      }
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n)
     public Object[] toArray(){
-      E[] array = (E[]) new Object[size];
-        for(int i = 0; i < size; i++){
-            array[i] = elements[i];
-        }
-        return array;
+        closeGap();
+        return Arrays.copyOf(elements, size, Object[].class);
+    }
+    // Write a binary snapshot of the list (String, Integer, Long or Double elements), see ListSnapshot
+    // O(n)
+    public void writeTo(WritableByteChannel channel) throws IOException{
+        ListSnapshot.write(toArray(), channel);
+    }
+    // Replace the contents of the list with a snapshot written by writeTo
+    // The array read from the channel becomes the backing array, nothing is copied or regrown
+    // O(n)
+    public void readFrom(ReadableByteChannel channel) throws IOException{
+        Object[] values = ListSnapshot.read(channel);
+        elements = (E[]) ((values.length == 0) ? new Object[GrowthPolicy.MIN_CAPACITY] : values);
+        size = values.length;
+        gapLength = 0;
+        releaseShare();
     }
 }
\ No newline at end of file
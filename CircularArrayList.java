@@ -0,0 +1,377 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+/**
+ * Class CircularArrayList
+ * ArrayList over a circular buffer: the element at index i is stored at (head + i) mod capacity
+ * Adding and removing at either end is O(1) amortized, get and set are O(1), and inserts or
+ * removals in the middle shift the elements on the shorter side of the index
+ * Growing or shrinking unwraps the buffer into the new array with at most two block copies
+ * Date of creation: October 18, 2026
+ */
+public class CircularArrayList<E> implements Cloneable, RandomAccess, List<E>{
+    // Data members
+    private E[] elements;
+    // Slot of the element at index 0
+    private int head;
+    private int size;
+    private final GrowthPolicy policy;
+    // Constructors
+    // O(1)
+    public CircularArrayList(){
+        this(GrowthPolicy.MIN_CAPACITY, GrowthPolicy.geometric(1.5));
+    }
+    public CircularArrayList(int capacity){
+        this(capacity, GrowthPolicy.geometric(1.5));
+    }
+    public CircularArrayList(int capacity, GrowthPolicy policy){
+        if(policy == null)
+            throw new NullPointerException();
+        elements = (E[]) new Object[capacity];
+        head = size = 0;
+        this.policy = policy;
+    }
+    // Slot of a logical index between 0 and capacity - 1
+    // O(1)
+    private int slot(int index){
+        int slot = head + index;
+        return (slot >= elements.length) ? slot - elements.length : slot;
+    }
+    // Adding an item to the head of the list
+    // O(1) amortized
+    public boolean addFirst(E item){
+        ensureCapacity(size + 1);
+        head = (head == 0) ? elements.length - 1 : head - 1;
+        elements[head] = item;
+        size++;
+        return true;
+    }
+    // Adding an item to the end of the list
+    // O(1) amortized
+    public boolean addLast(E item){
+        ensureCapacity(size + 1);
+        elements[slot(size)] = item;
+        size++;
+        return true;
+    }
+    // Adding an item to the list
+    // O(1) amortized
+    public boolean add(E item){
+        return addLast(item);
+    }
+    // Adding an item to the list at a specific index
+    // O(min(index, size - index))
+    public boolean add(int index, E item){
+        if(index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        ensureCapacity(size + 1);
+        if(index < (size >> 1)){
+            // open the gap by moving the first index elements one slot toward the front
+            head = (head == 0) ? elements.length - 1 : head - 1;
+            move(1, 0, index);
+        } else {
+            move(index, index + 1, size - index);
+        }
+        elements[slot(index)] = item;
+        size++;
+        return true;
+    }
+    // Getting the item at the head of the list
+    // O(1)
+    public E getFirst(){
+        if(size == 0)
+            throw new NoSuchElementException();
+        return elements[head];
+    }
+    // Getting the element at the end of the list
+    // O(1)
+    public E getLast(){
+        if(size == 0)
+            throw new NoSuchElementException();
+        return elements[slot(size - 1)];
+    }
+    // Getter and Setter
+    // O(1)
+    public E get(int index){
+        checkIndex(index);
+        return elements[slot(index)];
+    }
+    public E set(int index, E item){
+        checkIndex(index);
+        int slot = slot(index);
+        E oldItem = elements[slot];
+        elements[slot] = item;
+        return oldItem;
+    }
+    // Removing the item at the head of the list
+    // O(1) amortized
+    public boolean removeFirst(){
+        if(size == 0)
+            throw new NoSuchElementException();
+        elements[head] = null;
+        head = (head == elements.length - 1) ? 0 : head + 1;
+        size--;
+        shrinkIfSparse();
+        return true;
+    }
+    // Removing the item at the end of the list
+    // O(1) amortized
+    public boolean removeLast(){
+        if(size == 0)
+            throw new NoSuchElementException();
+        elements[slot(size - 1)] = null;
+        size--;
+        shrinkIfSparse();
+        return true;
+    }
+    // Removing the item at index from the list
+    // O(min(index, size - index))
+    public boolean remove(int index){
+        checkIndex(index);
+        if(index < (size >> 1)){
+            move(0, 1, index);
+            elements[head] = null;
+            head = (head == elements.length - 1) ? 0 : head + 1;
+        } else {
+            move(index + 1, index, size - index - 1);
+            elements[slot(size - 1)] = null;
+        }
+        size--;
+        shrinkIfSparse();
+        return true;
+    }
+    // Removing an object from the list
+    // O(n)
+    public boolean remove(Object o){
+        int index = indexOf(o);
+        if(index < 0)
+            return false;
+        return remove(index);
+    }
+    // Removing the elements from fromIndex (inclusive) to toIndex (exclusive)
+    // The shorter side of the range is moved, once
+    // O(min(fromIndex, size - toIndex))
+    public void removeRange(int fromIndex, int toIndex){
+        Lists.checkRange(fromIndex, toIndex, size);
+        int count = toIndex - fromIndex;
+        if(fromIndex < size - toIndex){
+            move(0, count, fromIndex);
+            release(0, count);
+            head = slot(count);
+        } else {
+            move(toIndex, fromIndex, size - toIndex);
+            release(size - count, size);
+        }
+        size -= count;
+        shrinkIfSparse();
+    }
+    // Search for a value in the list
+    // O(n)
+    public boolean contains(Object o){
+        return indexOf(o) >= 0;
+    }
+    // Index of the first element equal to o, -1 if none
+    // O(n)
+    public int indexOf(Object o){
+        for(int i = 0; i < size; i++){
+            if(Objects.equals(o, elements[slot(i)]))
+                return i;
+        }
+        return -1;
+    }
+    // Size of the list
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // Clear the list, the array is shrunk as the growth policy allows
+    // O(n)
+    public void clear(){
+        release(0, size);
+        head = size = 0;
+        shrinkIfSparse();
+    }
+    // Copy count elements from index from to index to, the two ranges may overlap
+    // Copies in ascending order when moving toward the front and descending order otherwise,
+    // one System.arraycopy per contiguous piece of the buffer (at most three)
+    // O(count)
+    private void move(int from, int to, int count){
+        int capacity = elements.length;
+        if(from > to){
+            while(count > 0){
+                int source = slot(from);
+                int target = slot(to);
+                int n = Math.min(count, Math.min(capacity - source, capacity - target));
+                System.arraycopy(elements, source, elements, target, n);
+                from += n;
+                to += n;
+                count -= n;
+            }
+        } else if(from < to){
+            while(count > 0){
+                int sourceEnd = slot(from + count - 1) + 1;
+                int targetEnd = slot(to + count - 1) + 1;
+                int n = Math.min(count, Math.min(sourceEnd, targetEnd));
+                System.arraycopy(elements, sourceEnd - n, elements, targetEnd - n, n);
+                count -= n;
+            }
+        }
+    }
+    // Clear the slots of the indexes from fromIndex (inclusive) to toIndex (exclusive)
+    // O(toIndex - fromIndex)
+    private void release(int fromIndex, int toIndex){
+        if(fromIndex == toIndex)
+            return;
+        int first = slot(fromIndex);
+        int last = slot(toIndex - 1);
+        if(first <= last){
+            Arrays.fill(elements, first, last + 1, null);
+        } else {
+            Arrays.fill(elements, first, elements.length, null);
+            Arrays.fill(elements, 0, last + 1, null);
+        }
+    }
+    // Copy the elements in order to the start of array
+    // O(n) - two block copies
+    private void copyTo(Object[] array){
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, array, 0, firstPart);
+        System.arraycopy(elements, 0, array, firstPart, size - firstPart);
+    }
+    // Unwrap the elements into a new array of length capacity
+    // O(n)
+    private void resize(int capacity){
+        E[] newElements = (E[]) new Object[capacity];
+        copyTo(newElements);
+        elements = newElements;
+        head = 0;
+    }
+    // Grow the list if needed so that it can hold minCapacity elements
+    // O(n)
+    public void ensureCapacity(int minCapacity){
+        if(minCapacity > elements.length)
+            resize(policy.grow(elements.length, minCapacity));
+    }
+    // Shrink the array after a removal if the policy asks for it
+    // O(1) amortized
+    private void shrinkIfSparse(){
+        int newCap = policy.shrink(elements.length, size);
+        if(newCap < elements.length)
+            resize(newCap);
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException(
+                "Index out of bounds. Must be between 0 and " + (size - 1));
+    }
+    // toString() method
+    // O(n)
+    public String toString(){
+        StringBuilder output = new StringBuilder("[");
+        for(int i = 0; i < size; i++){
+            if(i > 0)
+                output.append(' ');
+            output.append(elements[slot(i)]);
+        }
+        return output.append(']').toString();
+    }
+    // Iterator for the list
+    // O(1)
+    public Iterator<E> iterator(){
+        return new CircularListIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+        return new CircularListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<E> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new CircularListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class CircularListIterator implements ListIterator<E>{
+        private int cursor;
+        // O(1)
+        public CircularListIterator(int index){
+            this.cursor = index;
+        }
+        // O(1)
+        public boolean hasNext(){
+            return cursor < size;
+        }
+        // O(1)
+        public E next(){
+            if(cursor >= size)
+                throw new NoSuchElementException();
+            return elements[slot(cursor++)];
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return cursor > 0;
+        }
+        // O(1)
+        public E previous(){
+            if(cursor <= 0)
+                throw new NoSuchElementException();
+            return elements[slot(--cursor)];
+        }
+        // O(1)
+        public int nextIndex(){
+            return cursor;
+        }
+        // O(1)
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        // O(1)
+        public void add(E value){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void set(E value){
+            throw new UnsupportedOperationException();
+        }
+    }
+    // Sort the list in place with a stable merge sort (TimSort), a wrapped buffer is unwrapped first
+    // O(n log n)
+    public void sort(Comparator<? super E> c){
+        if(head + size > elements.length)
+            resize(elements.length);
+        Arrays.sort(elements, head, head + size, c);
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n) - two block copies
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        copyTo(array);
+        return array;
+    }
+    // Clone method (deep copy), the copy starts at slot 0
+    // O(n)
+    public Object clone(){
+        CircularArrayList<E> copy = new CircularArrayList<>(Math.max(size, 1), policy);
+        copyTo(copy.elements);
+        copy.size = size;
+        return copy;
+    }
+}
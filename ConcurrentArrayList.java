@@ -0,0 +1,517 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+/**
+ * Class ConcurrentArrayList
+ * Thread-safe ArrayList for read-mostly workloads
+ * Reads (get, size, contains, iteration) run under an optimistic StampedLock stamp and
+ * only fall back to a read lock when a write overlapped them; writes take the exclusive stamp
+ * The lock is not reentrant so the locked sections never call back into the public methods
+ * Date of creation: October 18, 2026
+ */
+public class ConcurrentArrayList<E> implements RandomAccess, List<E>{
+   // data members
+   private E[] elements;
+   private int size;
+   private final StampedLock lock = new StampedLock();
+   // Lists at least this long are sorted with Arrays.parallelSort
+   private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+   // Constructors
+   // O(1)
+   public ConcurrentArrayList() {
+     this(10);
+   }
+   public ConcurrentArrayList(int capacity) {
+     elements = (E[]) new Object[capacity];
+     size = 0;
+   }
+   // Adding an item to the list (2 methods)
+   // O(1) amortized - O(n)
+    public boolean add(E item) {
+      long stamp = lock.writeLock();
+      try {
+        insert(size, item);
+        return true;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    public boolean add(int index, E item){
+      long stamp = lock.writeLock();
+      try {
+        if(index > size || index < 0)
+          throw new ArrayIndexOutOfBoundsException();
+        insert(index, item);
+        return true;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Getter, optimistic read
+    // O(1)
+    public E get(int index) {
+      long stamp = lock.tryOptimisticRead();
+      E[] values = elements;
+      int n = size;
+      E value = (index >= 0 && index < n && index < values.length) ? values[index] : null;
+      if(!lock.validate(stamp)){
+        stamp = lock.readLock();
+        try {
+          checkIndex(index);
+          return elements[index];
+        } finally {
+          lock.unlockRead(stamp);
+        }
+      }
+      checkIndex(index, n);
+      return value;
+    }
+    // Setter
+    // O(1)
+    public E set(int index, E item) {
+      long stamp = lock.writeLock();
+      try {
+        checkIndex(index);
+        E oldItem = elements[index];
+        elements[index] = item;
+        return oldItem;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Size of the list, optimistic read
+    // O(1)
+    public int size() {
+      long stamp = lock.tryOptimisticRead();
+      int n = size;
+      if(!lock.validate(stamp)){
+        stamp = lock.readLock();
+        try {
+          n = size;
+        } finally {
+          lock.unlockRead(stamp);
+        }
+      }
+      return n;
+    }
+    // Clear the list
+    // O(n)
+    public void clear() {
+      long stamp = lock.writeLock();
+      try {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty() {
+      return size() == 0;
+    }
+    // Removing an object from the list
+    // O(n)
+    public boolean remove(Object o) {
+      long stamp = lock.writeLock();
+      try {
+        int index = indexOf(o, elements, size);
+        if(index < 0)
+          return false;
+        delete(index);
+        return true;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Removing the item at index from the list
+    // O(n)
+    public boolean remove(int index) {
+      long stamp = lock.writeLock();
+      try {
+        checkIndex(index);
+        delete(index);
+        return true;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Search for a value in the list, optimistic read
+    // O(n)
+    public boolean contains(Object o){
+      long stamp = lock.tryOptimisticRead();
+      E[] values = elements;
+      int n = Math.min(size, values.length);
+      boolean found = indexOf(o, values, n) >= 0;
+      if(!lock.validate(stamp)){
+        stamp = lock.readLock();
+        try {
+          found = indexOf(o, elements, size) >= 0;
+        } finally {
+          lock.unlockRead(stamp);
+        }
+      }
+      return found;
+    }
+    // Search for another list in the list
+    // O(n + m)
+    public boolean containsAll(List<E> otherList){
+      HashSet<E> values = new HashSet<>();
+      for(Object value : toArray())
+        values.add((E) value);
+      Iterator<E> iter = otherList.iterator();
+      while(iter.hasNext()){
+        if(!values.contains(iter.next()))
+          return false;
+      }
+      return true;
+    }
+    // Adding another list to the list, otherList is read before the write lock is taken
+    // O(m) amortized
+    public boolean addAll(List<E> otherList){
+      Object[] values = otherList.toArray();
+      long stamp = lock.writeLock();
+      try {
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+        return values.length != 0;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Removing elements of otherList
+    // Each element of otherList removes at most one matching element of this list
+    // O(n + m)
+    public boolean removeAll(List<E> otherList){
+      HashMap<E, Integer> counts = new HashMap<>();
+      for(Object value : otherList.toArray())
+        counts.merge((E) value, 1, Integer::sum);
+      long stamp = lock.writeLock();
+      try {
+        int lastSize = size;
+        int kept = 0;
+        for(int i = 0; i < size; i++){
+          Integer count = counts.get(elements[i]);
+          if(count != null && count > 0){
+            counts.put(elements[i], count - 1);
+          } else {
+            elements[kept++] = elements[i];
+          }
+        }
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+        return lastSize != size;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Retaining only the elements from otherList
+    // O(n + m)
+    public boolean retainAll(List<E> otherList){
+      HashSet<Object> values = new HashSet<>(Arrays.asList(otherList.toArray()));
+      long stamp = lock.writeLock();
+      try {
+        int lastSize = size;
+        int kept = 0;
+        for(int i = 0; i < size; i++){
+          if(values.contains(elements[i]))
+            elements[kept++] = elements[i];
+        }
+        Arrays.fill(elements, kept, size, null);
+        size = kept;
+        return lastSize != size;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Removing the elements that match filter atomically, single compacting pass under the write lock
+    // filter runs under the lock and must not call back into the list
+    // O(n)
+    public boolean removeIf(Predicate<? super E> filter){
+      long stamp = lock.writeLock();
+      try {
+        int lastSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+          for(; i < size; i++){
+            if(!filter.test(elements[i]))
+              elements[kept++] = elements[i];
+          }
+        } finally {
+          System.arraycopy(elements, i, elements, kept, size - i);
+          kept += size - i;
+          Arrays.fill(elements, kept, size, null);
+          size = kept;
+        }
+        return lastSize != size;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Replacing each element by the result of operator on it atomically, under the write lock
+    // operator runs under the lock and must not call back into the list
+    // O(n)
+    public void replaceAll(UnaryOperator<E> operator){
+      long stamp = lock.writeLock();
+      try {
+        for(int i = 0; i < size; i++)
+          elements[i] = operator.apply(elements[i]);
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Removing the elements from fromIndex (inclusive) to toIndex (exclusive), one block shift
+    // O(n)
+    public void removeRange(int fromIndex, int toIndex){
+      long stamp = lock.writeLock();
+      try {
+        Lists.checkRange(fromIndex, toIndex, size);
+        int newSize = size - (toIndex - fromIndex);
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Sort the list under the write lock with a stable merge sort (TimSort)
+    // Large lists are split into runs sorted and merged in parallel on the common fork-join pool
+    // c runs under the lock and must not call back into the list
+    // O(n log n)
+    public void sort(Comparator<? super E> c){
+      long stamp = lock.writeLock();
+      try {
+        if(size >= PARALLEL_SORT_THRESHOLD)
+          Arrays.parallelSort(elements, 0, size, c);
+        else
+          Arrays.sort(elements, 0, size, c);
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+    // Method to get the elements of the list as an array of type Object, optimistic read
+    // O(n)
+    public Object[] toArray(){
+      long stamp = lock.tryOptimisticRead();
+      E[] values = elements;
+      Object[] array = Arrays.copyOf(values, Math.min(size, values.length), Object[].class);
+      if(!lock.validate(stamp)){
+        stamp = lock.readLock();
+        try {
+          array = Arrays.copyOf(elements, size, Object[].class);
+        } finally {
+          lock.unlockRead(stamp);
+        }
+      }
+      return array;
+    }
+    // Spliterator over a consistent snapshot of the list
+    // O(n)
+    public Spliterator<E> spliterator(){
+      return Spliterators.spliterator(toArray(), Spliterator.ORDERED);
+    }
+    // toString() method
+    // O(n)
+    public String toString() {
+      return Arrays.toString(toArray());
+    }
+    // Insert item at a valid index, the write lock is held
+    // O(n)
+    private void insert(int index, E item){
+      ensureCapacity(size + 1);
+      System.arraycopy(elements, index, elements, index + 1, size - index);
+      elements[index] = item;
+      size++;
+    }
+    // Remove the item at a valid index, the write lock is held
+    // O(n)
+    private void delete(int index){
+      System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+      elements[--size] = null;
+    }
+    // Grow the list if needed, the write lock is held
+    // O(n)
+    private void ensureCapacity(int minCapacity) {
+      if(minCapacity > elements.length) {
+        int newCap = Math.max(minCapacity, (int) (elements.length * 1.5));
+        elements = Arrays.copyOf(elements, newCap);
+      }
+    }
+    // Index of o in the first n values, -1 if not found
+    // O(n)
+    private static int indexOf(Object o, Object[] values, int n){
+      for(int i = 0; i < n; i++){
+        if(Objects.equals(o, values[i]))
+          return i;
+      }
+      return -1;
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+      checkIndex(index, size);
+    }
+    private static void checkIndex(int index, int size){
+      if(index < 0 || index >= size)
+        throw new ArrayIndexOutOfBoundsException(
+            "Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    // Iterator for the list (weakly consistent, each step is an optimistic read)
+    // O(1)
+    public Iterator<E> iterator(){
+      return new ConcurrentListIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+      return new ConcurrentListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<E> listIterator(int index){
+      if(index < 0 || index > size())
+        throw new ArrayIndexOutOfBoundsException();
+      return new ConcurrentListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    // Writes made by other threads are seen by the following steps, the iterator never fails
+    // because of them but next() reports the end of the list if it shrank under the cursor
+    // add, remove and set each take the write lock, remove and set act on the element returned
+    // last even if other threads moved it, and fail if they removed it
+    private class ConcurrentListIterator implements ListIterator<E>{
+      private int cursor;
+      // index of the element returned by the last next() or previous(), -1 after add() or remove()
+      private int lastReturned = -1;
+      private E lastValue;
+
+      // O(1)
+      public ConcurrentListIterator(int index){
+        this.cursor = index;
+      }
+
+      // O(1)
+      public boolean hasNext() {
+        return cursor < size();
+      }
+
+      // O(1)
+      public E next() {
+        try {
+          E value = get(cursor);
+          lastReturned = cursor++;
+          lastValue = value;
+          return value;
+        } catch(ArrayIndexOutOfBoundsException e) {
+          throw new NoSuchElementException();
+        }
+      }
+
+      // O(1)
+      public boolean hasPrevious(){
+        return cursor > 0;
+      }
+
+      // O(1)
+      public E previous(){
+        try {
+          E value = get(cursor - 1);
+          lastReturned = --cursor;
+          lastValue = value;
+          return value;
+        } catch(ArrayIndexOutOfBoundsException e) {
+          throw new NoSuchElementException();
+        }
+      }
+
+      // O(1)
+      public int nextIndex(){
+        return cursor;
+      }
+
+      // O(1)
+      public int previousIndex(){
+        return cursor - 1;
+      }
+
+      // Index of the element returned last, looked up by identity if other threads moved it,
+      // -1 if they removed it, the write lock is held
+      // O(1) - O(n) if the element moved
+      private int locate(){
+        if(lastReturned < size && elements[lastReturned] == lastValue)
+          return lastReturned;
+        for(int i = 0; i < size; i++){
+          if(elements[i] == lastValue)
+            return i;
+        }
+        return -1;
+      }
+
+      // Index of the element returned last, the write lock is held
+      // O(1) - O(n) if the element moved
+      private int locateOrFail(){
+        if(lastReturned < 0)
+          throw new IllegalStateException();
+        int index = locate();
+        if(index < 0)
+          throw new IllegalStateException("The element was removed by another thread");
+        return index;
+      }
+
+      // Insert value before the cursor, at the end if the list shrank under it
+      // O(n)
+      public void add(E value){
+        long stamp = lock.writeLock();
+        try {
+          cursor = Math.min(cursor, size);
+          insert(cursor++, value);
+          lastReturned = -1;
+        } finally {
+          lock.unlockWrite(stamp);
+        }
+      }
+
+      // Remove the element returned by the last next() or previous()
+      // O(n)
+      public void remove(){
+        long stamp = lock.writeLock();
+        try {
+          int index = locateOrFail();
+          delete(index);
+          cursor = index;
+          lastReturned = -1;
+          lastValue = null;
+        } finally {
+          lock.unlockWrite(stamp);
+        }
+      }
+
+      // Replace the element returned by the last next() or previous()
+      // O(1) - O(n) if the element moved
+      public void set(E value){
+        long stamp = lock.writeLock();
+        try {
+          int index = locateOrFail();
+          elements[index] = value;
+          cursor = (lastReturned < cursor) ? index + 1 : index;
+          lastReturned = index;
+          lastValue = value;
+        } finally {
+          lock.unlockWrite(stamp);
+        }
+      }
+    }
+}
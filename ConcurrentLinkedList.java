@@ -0,0 +1,182 @@
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.function.Predicate;
+/**
+ * Class ConcurrentLinkedList
+ * Lock-free version of the head/tail API of LinkedList for producer/consumer queues
+ * The nodes are linked and unlinked with compare-and-set by java.util.concurrent.ConcurrentLinkedDeque,
+ * no thread ever blocks (so virtual threads are never pinned) and iterators are weakly consistent
+ * null elements are not allowed
+ * Date of creation: October 18, 2026
+ */
+public class ConcurrentLinkedList<E> implements List<E>{
+    // Data members
+    private final ConcurrentLinkedDeque<E> deque;
+    // Constructor
+    // O(1)
+    public ConcurrentLinkedList(){
+        deque = new ConcurrentLinkedDeque<>();
+    }
+
+    // Adding an item to the head of the list
+    // O(1)
+    public boolean addFirst(E item){
+        deque.addFirst(item);
+        return true;
+    }
+    // Adding an item to the end of the list
+    // O(1)
+    public boolean addLast(E item){
+        deque.addLast(item);
+        return true;
+    }
+    // Adding an item to the list
+    // O(1)
+    public boolean add(E item){
+        return addLast(item);
+    }
+    // Positional writes cannot be made atomic without a lock
+    public boolean add(int index, E item){
+        throw new UnsupportedOperationException();
+    }
+    // Getting the item at the head of the list
+    // O(1)
+    public E getFirst(){
+        return deque.getFirst();
+    }
+    // Getting the element at the end of the list
+    // O(1)
+    public E getLast(){
+        return deque.getLast();
+    }
+    // Getting the item from the list, the list may change while it is walked
+    // O(n)
+    public E get(int index){
+        if(index < 0)
+            throw new IndexOutOfBoundsException();
+        Iterator<E> iter = deque.iterator();
+        for(int i = 0; i < index && iter.hasNext(); i++)
+            iter.next();
+        if(!iter.hasNext())
+            throw new IndexOutOfBoundsException();
+        return iter.next();
+    }
+    // Positional writes cannot be made atomic without a lock
+    public E set(int index, E value){
+        throw new UnsupportedOperationException();
+    }
+    // Remove the first occurrence of a value from the list
+    // O(n)
+    public boolean remove(Object o){
+        return deque.removeFirstOccurrence(o);
+    }
+    // Positional writes cannot be made atomic without a lock
+    public boolean remove(int index){
+        throw new UnsupportedOperationException();
+    }
+    // Removing the item at the head of the list
+    // O(1)
+    public boolean removeFirst(){
+        deque.removeFirst();
+        return true;
+    }
+    // Removing the item at the end of the list
+    // O(1)
+    public boolean removeLast(){
+        deque.removeLast();
+        return true;
+    }
+    // Removing and returning the item at the head of the list, null if the list is empty
+    // Consumers should use this rather than getFirst() followed by removeFirst()
+    // O(1)
+    public E pollFirst(){
+        return deque.pollFirst();
+    }
+    // Removing and returning the item at the end of the list, null if the list is empty
+    // O(1)
+    public E pollLast(){
+        return deque.pollLast();
+    }
+    // Search for a value in the list
+    // O(n)
+    public boolean contains(Object o){
+        return deque.contains(o);
+    }
+    // Removing elements of otherList, in one traversal of the deque
+    // Each element of otherList removes at most one matching element, the first ones from the head
+    // O(n + m)
+    public boolean removeAll(List<E> otherList){
+        HashMap<E, Integer> counts = Lists.valueCounts(otherList);
+        return deque.removeIf(value -> {
+            Integer count = counts.get(value);
+            if(count == null || count == 0)
+                return false;
+            counts.put(value, count - 1);
+            return true;
+        });
+    }
+    // Retaining only the elements from otherList
+    // O(n + m)
+    public boolean retainAll(List<E> otherList){
+        HashSet<E> values = Lists.valueSet(otherList);
+        return deque.removeIf(value -> !values.contains(value));
+    }
+    // Removing the elements that match filter, each one unlinked as the deque is traversed
+    // O(n)
+    public boolean removeIf(Predicate<? super E> filter){
+        return deque.removeIf(filter);
+    }
+    // toString() method
+    // O(n)
+    public String toString(){
+        return deque.toString();
+    }
+    // Clear the list, elements added concurrently may survive
+    // O(n)
+    public void clear(){
+        deque.clear();
+    }
+    // O(1)
+    public boolean isEmpty(){
+        return deque.isEmpty();
+    }
+    // Number of elements, counted by walking the list
+    // O(n)
+    public int size(){
+        return deque.size();
+    }
+    // Implementing a weakly consistent iterator for the list
+    // O(1)
+    public Iterator<E> iterator(){
+        return deque.iterator();
+    }
+    // Method to get a list iterator over a snapshot of the list
+    // O(n)
+    public ListIterator<E> listIterator(){
+        return listIterator(0);
+    }
+    // Method to get a list iterator over a snapshot of the list at a specific position
+    // O(n)
+    public ListIterator<E> listIterator(int index){
+        java.util.List<E> snapshot = Collections.unmodifiableList(Arrays.asList((E[]) deque.toArray()));
+        if(index < 0 || index > snapshot.size())
+            throw new IndexOutOfBoundsException();
+        return snapshot.listIterator(index);
+    }
+    // Weakly consistent spliterator
+    // O(1)
+    public Spliterator<E> spliterator(){
+        return deque.spliterator();
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n)
+    public Object[] toArray(){
+        return deque.toArray();
+    }
+}
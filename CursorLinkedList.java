@@ -0,0 +1,382 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+/**
+ * Class CursorLinkedList
+ * Doubly linked list whose nodes are slots of parallel arrays instead of objects
+ * Slot i holds values[i] and the slots of its neighbors next[i] and previous[i] (NIL at the ends)
+ * Removed slots go to a free list threaded through next[] and are reused by the following inserts,
+ * so once the arrays are large enough inserting and removing allocate nothing
+ * Date of creation: October 18, 2026
+ */
+public class CursorLinkedList<E> implements Cloneable, List<E>{
+    // Slot number used as a null link
+    private static final int NIL = -1;
+    // Data members
+    private Object[] values;
+    private int[] next;
+    private int[] previous;
+    private int head, tail;
+    // First slot of the free list
+    private int free;
+    // Slots at or after used have never been allocated
+    private int used;
+    private int size;
+    // Finger: the last slot reached by index and its position
+    private int finger;
+    private int fingerIndex;
+    // Constructors
+    // O(1)
+    public CursorLinkedList(){
+        this(10);
+    }
+    public CursorLinkedList(int capacity){
+        values = new Object[capacity];
+        next = new int[capacity];
+        previous = new int[capacity];
+        head = tail = free = finger = NIL;
+        used = size = 0;
+    }
+
+    // Adding an item to the head of the list
+    // O(1)
+    public boolean addFirst(E item){
+        int slot = allocate(item);
+        previous[slot] = NIL;
+        next[slot] = head;
+        if(head == NIL)
+            tail = slot;
+        else
+            previous[head] = slot;
+        head = slot;
+        fingerIndex++;
+        size++;
+        return true;
+    }
+    // Adding an item to the end of the list
+    // O(1)
+    public boolean addLast(E item){
+        int slot = allocate(item);
+        next[slot] = NIL;
+        previous[slot] = tail;
+        if(tail == NIL)
+            head = slot;
+        else
+            next[tail] = slot;
+        tail = slot;
+        size++;
+        return true;
+    }
+    // Adding an item to the list
+    // O(1)
+    public boolean add(E item){
+        return addLast(item);
+    }
+    // Adding an item to the list at a specific index
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public boolean add(int index, E item){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        if(index == 0)
+            return addFirst(item);
+        if(index == size)
+            return addLast(item);
+        int current = slot(index);
+        int slot = allocate(item);
+        int before = previous[current];
+        next[before] = slot;
+        previous[slot] = before;
+        next[slot] = current;
+        previous[current] = slot;
+        finger = slot;
+        size++;
+        return true;
+    }
+    // Getting the item at the head of the list
+    // O(1)
+    public E getFirst(){
+        if(head == NIL)
+            throw new NoSuchElementException();
+        return (E) values[head];
+    }
+    // Getting the element at the end of the list
+    // O(1)
+    public E getLast(){
+        if(head == NIL)
+            throw new NoSuchElementException();
+        return (E) values[tail];
+    }
+    // Getting the item from the list
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public E get(int index){
+        checkIndex(index);
+        return (E) values[slot(index)];
+    }
+    // Modify the value of an element in the list
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public E set(int index, E value){
+        checkIndex(index);
+        int slot = slot(index);
+        E oldValue = (E) values[slot];
+        values[slot] = value;
+        return oldValue;
+    }
+    // Remove a value from the list
+    // O(n)
+    public boolean remove(Object o){
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            if(Objects.equals(o, values[slot])){
+                finger = NIL;
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+    // Remove an element from the list at a specific index
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public boolean remove(int index){
+        checkIndex(index);
+        int slot = slot(index);
+        finger = next[slot];
+        unlink(slot);
+        return true;
+    }
+    // Removing the item at the head of the list
+    // O(1)
+    public boolean removeFirst(){
+        if(head == NIL)
+            throw new NoSuchElementException();
+        if(finger == head)
+            finger = NIL;
+        fingerIndex--;
+        unlink(head);
+        return true;
+    }
+    // Removing the item at the end of the list
+    // O(1)
+    public boolean removeLast(){
+        if(head == NIL)
+            throw new NoSuchElementException();
+        if(finger == tail)
+            finger = NIL;
+        unlink(tail);
+        return true;
+    }
+    // Search for a value in the list
+    // O(n)
+    public boolean contains(Object o){
+        for(int slot = head; slot != NIL; slot = next[slot]){
+            if(Objects.equals(o, values[slot]))
+                return true;
+        }
+        return false;
+    }
+    // Take a slot from the free list, or a fresh one, and store value in it
+    // O(1) amortized
+    private int allocate(Object value){
+        int slot;
+        if(free != NIL){
+            slot = free;
+            free = next[slot];
+        } else {
+            if(used == values.length)
+                grow();
+            slot = used++;
+        }
+        values[slot] = value;
+        return slot;
+    }
+    // Grow the parallel arrays by half
+    // O(n)
+    private void grow(){
+        int newCap = Math.max(used + 1, (int) (values.length * 1.5));
+        values = Arrays.copyOf(values, newCap);
+        next = Arrays.copyOf(next, newCap);
+        previous = Arrays.copyOf(previous, newCap);
+    }
+    // Unlink a slot and put it on the free list
+    // O(1)
+    private void unlink(int slot){
+        int before = previous[slot];
+        int after = next[slot];
+        if(before == NIL)
+            head = after;
+        else
+            next[before] = after;
+        if(after == NIL)
+            tail = before;
+        else
+            previous[after] = before;
+        values[slot] = null;
+        next[slot] = free;
+        free = slot;
+        size--;
+    }
+    // Find the slot at a valid index starting from the closest of head, tail and finger
+    // O(1) for nearby or sequential indexes - O(n) otherwise
+    private int slot(int index){
+        int current;
+        int position;
+        if(index < (size >> 1)){
+            current = head;
+            position = 0;
+        } else {
+            current = tail;
+            position = size - 1;
+        }
+        if(finger != NIL && Math.abs(index - fingerIndex) < Math.abs(index - position)){
+            current = finger;
+            position = fingerIndex;
+        }
+        while(position < index){
+            current = next[current];
+            position++;
+        }
+        while(position > index){
+            current = previous[current];
+            position--;
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+    }
+    // toString() method
+    // O(n)
+    public String toString(){
+        StringBuilder output = new StringBuilder("[");
+        for(int slot = head; slot != NIL; slot = next[slot])
+            output.append(values[slot]).append(' ');
+        return output.append(']').toString();
+    }
+    // clear, check if empty, and size of the list
+    // O(n) to release the values, the arrays are kept for reuse
+    public void clear(){
+        Arrays.fill(values, 0, used, null);
+        head = tail = free = finger = NIL;
+        used = size = 0;
+    }
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Implementing an iterator for the list
+    // O(1)
+    public Iterator<E> iterator(){
+        return new CursorIterator();
+    }
+    // Inner class to implement the interface Iterator
+    private class CursorIterator implements Iterator<E>{
+        private int current = head;
+        // O(1)
+        public boolean hasNext(){
+            return current != NIL;
+        }
+        // O(1)
+        public E next(){
+            if(current == NIL)
+                throw new NoSuchElementException();
+            E value = (E) values[current];
+            current = next[current];
+            return value;
+        }
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+        return new CursorListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public ListIterator<E> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        return new CursorListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class CursorListIterator implements ListIterator<E>{
+        // slot returned by the next call to next(), NIL at the end of the list
+        private int following;
+        private int index;
+        // O(1) near head, tail or the last index accessed - O(n) otherwise
+        public CursorListIterator(int index){
+            this.index = index;
+            this.following = (index == size) ? NIL : slot(index);
+        }
+        // O(1)
+        public boolean hasNext(){
+            return index < size;
+        }
+        // O(1)
+        public E next(){
+            if(following == NIL)
+                throw new NoSuchElementException();
+            E value = (E) values[following];
+            following = next[following];
+            index++;
+            return value;
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return index > 0;
+        }
+        // O(1)
+        public E previous(){
+            if(index == 0)
+                throw new NoSuchElementException();
+            following = (following == NIL) ? tail : previous[following];
+            index--;
+            return (E) values[following];
+        }
+        // O(1)
+        public int nextIndex(){
+            return index;
+        }
+        // O(1)
+        public int previousIndex(){
+            return index - 1;
+        }
+        // O(1)
+        public void add(E value){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void set(E value){
+            throw new UnsupportedOperationException();
+        }
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n)
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        int i = 0;
+        for(int slot = head; slot != NIL; slot = next[slot])
+            array[i++] = values[slot];
+        return array;
+    }
+    // Clone method (deep copy), the copy is packed in list order
+    // O(n)
+    public Object clone(){
+        CursorLinkedList<E> copy = new CursorLinkedList<>(Math.max(size, 1));
+        for(int slot = head; slot != NIL; slot = next[slot])
+            copy.addLast((E) values[slot]);
+        return copy;
+    }
+}
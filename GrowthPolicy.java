@@ -0,0 +1,154 @@
+/**
+ * Interface GrowthPolicy
+ * Decides how much the backing array of an ArrayList grows and when it shrinks back
+ * Shrinking uses hysteresis: after a grow or a shrink the list has to lose a large share
+ * of its elements before the next shrink, so a list that hovers around a capacity
+ * boundary does not copy its array on every add/remove
+ * Date of creation: October 18, 2026
+ */
+public interface GrowthPolicy{
+    /**
+     * Capacity below which the arrays are neither grown in smaller steps nor shrunk
+     */
+    public static final int MIN_CAPACITY = 10;
+
+    /**
+     * Largest array the policies ask for, some VMs reserve a few header words in an array
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Method to get the capacity of a full array that must hold minCapacity elements
+     * @param capacity current length of the array
+     * @param minCapacity number of elements the array must hold, greater than capacity
+     * @return new length of the array, at least minCapacity
+     */
+    public int grow(int capacity, int minCapacity);
+
+    /**
+     * Method to get the capacity of an array after elements were removed
+     * @param capacity current length of the array
+     * @param size number of elements left in the array
+     * @return new length of the array, at least size, or capacity to keep the array
+     */
+    public int shrink(int capacity, int size);
+
+    /**
+     * Method to get a policy that multiplies the capacity by factor
+     * The array is shrunk to size * factor once size falls below capacity / factor^2
+     * @param factor growth factor, greater than 1
+     * @return geometric policy
+     */
+    public static GrowthPolicy geometric(double factor){
+        return new Geometric(factor);
+    }
+
+    /**
+     * Method to get a policy that adds increment slots at a time
+     * The array is shrunk to size + increment once more than 2 * increment slots are free
+     * @param increment number of slots added by each growth, at least 1
+     * @return fixed-increment policy
+     */
+    public static GrowthPolicy fixedIncrement(int increment){
+        return new FixedIncrement(increment);
+    }
+
+    /**
+     * Method to get a policy that keeps the capacity a power of two, never below minimum
+     * The array is halved (or more) once it is less than a quarter full
+     * @param minimum smallest capacity, rounded up to a power of two
+     * @return power-of-two policy
+     */
+    public static GrowthPolicy powerOfTwo(int minimum){
+        return new PowerOfTwo(minimum);
+    }
+
+    // Capacity of at least minCapacity, wanted if possible, within MAX_CAPACITY
+    // O(1)
+    private static int clamp(long wanted, int minCapacity){
+        return (int) Math.max(minCapacity, Math.min(wanted, MAX_CAPACITY));
+    }
+
+    // Growth by a constant factor
+    final class Geometric implements GrowthPolicy{
+        private final double factor;
+        // O(1)
+        Geometric(double factor){
+            if(!(factor > 1))
+                throw new IllegalArgumentException("Growth factor must be greater than 1: " + factor);
+            this.factor = factor;
+        }
+        // O(1)
+        public int grow(int capacity, int minCapacity){
+            return clamp(Math.max((long) (capacity * factor), MIN_CAPACITY), minCapacity);
+        }
+        // O(1)
+        public int shrink(int capacity, int size){
+            if(capacity <= MIN_CAPACITY || size * factor * factor >= capacity)
+                return capacity;
+            return clamp(Math.max((long) (size * factor), MIN_CAPACITY), size);
+        }
+        // O(1)
+        public String toString(){
+            return "geometric(" + factor + ")";
+        }
+    }
+
+    // Growth by a constant number of slots
+    final class FixedIncrement implements GrowthPolicy{
+        private final int increment;
+        // O(1)
+        FixedIncrement(int increment){
+            if(increment < 1)
+                throw new IllegalArgumentException("Increment must be at least 1: " + increment);
+            this.increment = increment;
+        }
+        // O(1)
+        public int grow(int capacity, int minCapacity){
+            return clamp((long) capacity + increment, minCapacity);
+        }
+        // O(1)
+        public int shrink(int capacity, int size){
+            if(capacity <= MIN_CAPACITY || capacity - size <= 2L * increment)
+                return capacity;
+            return clamp(Math.max((long) size + increment, MIN_CAPACITY), size);
+        }
+        // O(1)
+        public String toString(){
+            return "fixedIncrement(" + increment + ")";
+        }
+    }
+
+    // Power-of-two capacities with a lower bound
+    final class PowerOfTwo implements GrowthPolicy{
+        private final int minimum;
+        // O(1)
+        PowerOfTwo(int minimum){
+            if(minimum < 1 || minimum > (1 << 30))
+                throw new IllegalArgumentException("Minimum must be between 1 and 2^30: " + minimum);
+            this.minimum = ceilingPowerOfTwo(minimum);
+        }
+        // Smallest power of two at least n (n at most 2^30)
+        // O(1)
+        private static int ceilingPowerOfTwo(int n){
+            return (n <= 1) ? 1 : Integer.highestOneBit(n - 1) << 1;
+        }
+        // O(1)
+        public int grow(int capacity, int minCapacity){
+            if(minCapacity > (1 << 30))
+                return clamp(MAX_CAPACITY, minCapacity);
+            return Math.max(minimum, ceilingPowerOfTwo(minCapacity));
+        }
+        // O(1)
+        public int shrink(int capacity, int size){
+            if(capacity <= minimum || size >= capacity / 4)
+                return capacity;
+            // twice the smallest power of two holding size, so the next shrink waits for a halving
+            return Math.max(minimum, ceilingPowerOfTwo(size) << 1);
+        }
+        // O(1)
+        public String toString(){
+            return "powerOfTwo(" + minimum + ")";
+        }
+    }
+}
@@ -0,0 +1,229 @@
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+/**
+ * Class InstrumentedList
+ * Decorator that times the calls made to any List and records them in ListMetrics
+ * While ListMetrics is disabled each call goes straight to the wrapped list after one field read
+ * Iterators, spliterators, size and isEmpty are not timed
+ * Date of creation: October 18, 2026
+ */
+public class InstrumentedList<E> implements List<E>{
+    // Data members
+    private final List<E> list;
+    // Constructor
+    // O(1)
+    public InstrumentedList(List<E> list){
+        if(list == null)
+            throw new NullPointerException();
+        this.list = list;
+    }
+    // The wrapped list
+    // O(1)
+    public List<E> unwrap(){
+        return list;
+    }
+    // Every method has the cost of the same method of the wrapped list
+    public boolean add(E value){
+        if(!ListMetrics.enabled)
+            return list.add(value);
+        long start = System.nanoTime();
+        try {
+            return list.add(value);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.ADD, list, start);
+        }
+    }
+    public boolean add(int index, E value){
+        if(!ListMetrics.enabled)
+            return list.add(index, value);
+        long start = System.nanoTime();
+        try {
+            return list.add(index, value);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.ADD_AT, list, start);
+        }
+    }
+    public E get(int index){
+        if(!ListMetrics.enabled)
+            return list.get(index);
+        long start = System.nanoTime();
+        try {
+            return list.get(index);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.GET, list, start);
+        }
+    }
+    public E set(int index, E value){
+        if(!ListMetrics.enabled)
+            return list.set(index, value);
+        long start = System.nanoTime();
+        try {
+            return list.set(index, value);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.SET, list, start);
+        }
+    }
+    public int size(){
+        return list.size();
+    }
+    public boolean isEmpty(){
+        return list.isEmpty();
+    }
+    public void clear(){
+        if(!ListMetrics.enabled){
+            list.clear();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            list.clear();
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.CLEAR, list, start);
+        }
+    }
+    public boolean remove(Object o){
+        if(!ListMetrics.enabled)
+            return list.remove(o);
+        long start = System.nanoTime();
+        try {
+            return list.remove(o);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.REMOVE, list, start);
+        }
+    }
+    public boolean remove(int index){
+        if(!ListMetrics.enabled)
+            return list.remove(index);
+        long start = System.nanoTime();
+        try {
+            return list.remove(index);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.REMOVE_AT, list, start);
+        }
+    }
+    public boolean contains(Object o){
+        if(!ListMetrics.enabled)
+            return list.contains(o);
+        long start = System.nanoTime();
+        try {
+            return list.contains(o);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.CONTAINS, list, start);
+        }
+    }
+    public boolean containsAll(List<E> otherList){
+        if(!ListMetrics.enabled)
+            return list.containsAll(otherList);
+        long start = System.nanoTime();
+        try {
+            return list.containsAll(otherList);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.CONTAINS_ALL, list, start);
+        }
+    }
+    public boolean addAll(List<E> otherList){
+        if(!ListMetrics.enabled)
+            return list.addAll(otherList);
+        long start = System.nanoTime();
+        try {
+            return list.addAll(otherList);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.ADD_ALL, list, start);
+        }
+    }
+    public boolean removeAll(List<E> otherList){
+        if(!ListMetrics.enabled)
+            return list.removeAll(otherList);
+        long start = System.nanoTime();
+        try {
+            return list.removeAll(otherList);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.REMOVE_ALL, list, start);
+        }
+    }
+    public boolean retainAll(List<E> otherList){
+        if(!ListMetrics.enabled)
+            return list.retainAll(otherList);
+        long start = System.nanoTime();
+        try {
+            return list.retainAll(otherList);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.RETAIN_ALL, list, start);
+        }
+    }
+    public boolean removeIf(Predicate<? super E> filter){
+        if(!ListMetrics.enabled)
+            return list.removeIf(filter);
+        long start = System.nanoTime();
+        try {
+            return list.removeIf(filter);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.REMOVE_IF, list, start);
+        }
+    }
+    public void replaceAll(UnaryOperator<E> operator){
+        if(!ListMetrics.enabled){
+            list.replaceAll(operator);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            list.replaceAll(operator);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.REPLACE_ALL, list, start);
+        }
+    }
+    public void removeRange(int fromIndex, int toIndex){
+        if(!ListMetrics.enabled){
+            list.removeRange(fromIndex, toIndex);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            list.removeRange(fromIndex, toIndex);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.REMOVE_RANGE, list, start);
+        }
+    }
+    public void sort(Comparator<? super E> c){
+        if(!ListMetrics.enabled){
+            list.sort(c);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            list.sort(c);
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.SORT, list, start);
+        }
+    }
+    public Object[] toArray(){
+        if(!ListMetrics.enabled)
+            return list.toArray();
+        long start = System.nanoTime();
+        try {
+            return list.toArray();
+        } finally {
+            ListMetrics.timed(ListMetrics.Operation.TO_ARRAY, list, start);
+        }
+    }
+    public Iterator<E> iterator(){
+        return list.iterator();
+    }
+    public ListIterator<E> listIterator(){
+        return list.listIterator();
+    }
+    public ListIterator<E> listIterator(int index){
+        return list.listIterator(index);
+    }
+    public Spliterator<E> spliterator(){
+        return list.spliterator();
+    }
+    public String toString(){
+        return list.toString();
+    }
+}
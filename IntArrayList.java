@@ -0,0 +1,374 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+/**
+ * Class IntArrayList
+ * ArrayList specialized for int values, stored unboxed in a int[]
+ * The methods of the interface List box their values, the Int methods do not allocate
+ * Date of creation: October 18, 2026
+ */
+public class IntArrayList implements Cloneable, RandomAccess, List<Integer>{
+   // Lists at least this large are sorted with a parallel fork-join sort
+   private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+   // data members
+   private int[] elements;
+   private int size;
+   // Constructors
+   // O(1)
+   public IntArrayList() {
+     elements = new int[10];
+     size = 0;
+   }
+   public IntArrayList(int capacity) {
+     elements = new int[capacity];
+     size = 0;
+   }
+   // Adding an item to the list (2 methods)
+   // O(1) - O(n)
+    public boolean add(Integer item) {
+      return addInt(size, item);
+    }
+    public boolean add(int index, Integer item){
+      return addInt(index, item);
+    }
+    // Allocation-free versions
+    // O(1) amortized
+    public boolean addInt(int item) {
+      return addInt(size, item);
+    }
+    // O(n)
+    public boolean addInt(int index, int item){
+      if(index > size || index < 0)
+        throw new ArrayIndexOutOfBoundsException();
+      ensureCapacity(size + 1);
+      System.arraycopy(elements, index, elements, index + 1, size - index);
+      elements[index] = item;
+      size++;
+      return true;
+    }
+    // Getter and Setter
+    // O(1)
+    public Integer get(int index) {
+      return getInt(index);
+    }
+    public Integer set(int index, Integer item) {
+      return setInt(index, item);
+    }
+    // Allocation-free versions
+    // O(1)
+    public int getInt(int index) {
+      checkIndex(index);
+      return elements[index];
+    }
+    public int setInt(int index, int item) {
+      checkIndex(index);
+      int oldItem = elements[index];
+      elements[index] = item;
+      return oldItem;
+    }
+    // Size of the list
+    // O(1)
+    public int size() {
+      return size;
+    }
+    // Clear the list
+    // O(1)
+    public void clear() {
+      size = 0;
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty() {
+      return (size == 0);
+    }
+    // Removing an object from the list
+    // O(n)
+    public boolean remove(Object o) {
+      return (o instanceof Integer) && removeInt((Integer) o);
+    }
+    // Removing the first occurrence of a value from the list (allocation-free)
+    // O(n)
+    public boolean removeInt(int item) {
+      int index = indexOfInt(item);
+      if(index < 0)
+        return false;
+      remove(index);
+      return true;
+    }
+    // Removing the item at index from the list
+    // O(n)
+    public boolean remove(int index) {
+      checkIndex(index);
+      System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+      size--;
+      return true;
+    }
+    // Removing the items from fromIndex (inclusive) to toIndex (exclusive) with a single shift
+    // O(n)
+    public void removeRange(int fromIndex, int toIndex){
+      Lists.checkRange(fromIndex, toIndex, size);
+      System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+      size -= toIndex - fromIndex;
+    }
+    // Shrink the list to size
+    // O(n)
+    public void trimToSize() {
+      if (size != elements.length) {
+        elements = Arrays.copyOf(elements, size);// capacity = size
+      }
+    }
+    // Grow the list if needed so that it can hold minCapacity elements
+    // O(n)
+    public void ensureCapacity(int minCapacity) {
+      if(minCapacity > elements.length) {
+        int newCap = Math.max(minCapacity, (int) (elements.length * 1.5));
+        elements = Arrays.copyOf(elements, newCap);
+      }
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+      if(index < 0 || index >= size)
+        throw new ArrayIndexOutOfBoundsException(
+            "Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    // toString() method
+    // O(n)
+    public String toString() {
+      StringBuilder output = new StringBuilder("[");
+      for(int i=0; i<size; i++){
+        if(i > 0)
+          output.append(' ');
+        output.append(elements[i]);
+      }
+      return output.append(']').toString();
+    }
+    // Search for a value in the list
+    // O(n)
+    public boolean contains(Object o){
+      return (o instanceof Integer) && containsInt((Integer) o);
+    }
+    // Allocation-free versions
+    // O(n)
+    public boolean containsInt(int item){
+      return indexOfInt(item) >= 0;
+    }
+    public int indexOfInt(int item){
+      for(int i = 0; i < size; i++){
+        if(elements[i] == item){
+          return i;
+        }
+      }
+      return -1;
+    }
+    // Adding another list to the end of the list
+    // O(m) amortized
+    public boolean addAll(List<Integer> otherList){
+      int count = otherList.size();
+      ensureCapacity(size + count);
+      if(otherList instanceof IntArrayList){
+        System.arraycopy(((IntArrayList) otherList).elements, 0, elements, size, count);
+        size += count;
+      } else {
+        Lists.forEach(otherList, count, this::add);
+      }
+      return count != 0;
+    }
+    // Removing elements of otherList
+    // Each element of otherList removes at most one matching element of this list
+    // O(n + m) - single compacting pass over elements
+    public boolean removeAll(List<Integer> otherList){
+      int lastSize = size;
+      HashMap<Integer, Integer> counts = Lists.valueCounts(otherList);
+      int kept = 0;
+      for(int i = 0; i < size; i++){
+        Integer count = counts.get(elements[i]);
+        if(count != null && count > 0){
+          counts.put(elements[i], count - 1);
+        } else {
+          elements[kept++] = elements[i];
+        }
+      }
+      size = kept;
+      return lastSize != size;
+    }
+    // Retaining only the elements from otherList
+    // O(n + m) - single compacting pass over elements
+    public boolean retainAll(List<Integer> otherList){
+      int lastSize = size;
+      HashSet<Integer> values = Lists.valueSet(otherList);
+      int kept = 0;
+      for(int i = 0; i < size; i++){
+        if(values.contains(elements[i])){
+          elements[kept++] = elements[i];
+        }
+      }
+      size = kept;
+      return lastSize != size;
+    }
+    // Sort the list, a null comparator sorts the unboxed values in ascending numeric order without allocating
+    // O(n log n)
+    public void sort(Comparator<? super Integer> c){
+      if(c != null)
+        List.super.sort(c);
+      else if(size >= PARALLEL_SORT_THRESHOLD)
+        Arrays.parallelSort(elements, 0, size);
+      else
+        Arrays.sort(elements, 0, size);
+    }
+    // Iterator for the list (boxes each value)
+    // O(1)
+    public Iterator<Integer> iterator(){
+      return intIterator();
+    }
+    // Allocation-free iterator for the list
+    // O(1)
+    public PrimitiveIterator.OfInt intIterator(){
+      return new IntArrayIterator();
+    }
+    // Inner class that implements the interface PrimitiveIterator.OfInt
+    private class IntArrayIterator implements PrimitiveIterator.OfInt{
+      private int current = 0;
+
+      // O(1)
+      public boolean hasNext() {
+        return current < size;
+      }
+
+      // O(1)
+      public int nextInt() {
+        if(current >= size)
+          throw new NoSuchElementException();
+        return elements[current++];
+      }
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<Integer> listIterator(){
+      return new IntArrayListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<Integer> listIterator(int index){
+      if(index < 0 || index > size)
+        throw new ArrayIndexOutOfBoundsException();
+      return new IntArrayListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<Integer>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class IntArrayListIterator implements ListIterator<Integer>{
+      private int cursor;
+      // index of the element returned by the last next() or previous(), -1 after add() or remove()
+      private int lastReturned = -1;
+
+      // O(1)
+      public IntArrayListIterator(int index){
+        this.cursor = index;
+      }
+
+      // O(1)
+      public boolean hasNext() {
+        return cursor < size;
+      }
+
+      // O(1)
+      public Integer next() {
+        if(cursor >= size)
+          throw new NoSuchElementException();
+        lastReturned = cursor;
+        return elements[cursor++];
+      }
+
+      // O(1)
+      public boolean hasPrevious(){
+        return cursor > 0;
+      }
+
+      // O(1)
+      public Integer previous(){
+        if(cursor <= 0)
+          throw new NoSuchElementException();
+        lastReturned = --cursor;
+        return elements[cursor];
+      }
+
+      // O(1)
+      public int nextIndex(){
+        return cursor;
+      }
+
+      // O(1)
+      public int previousIndex(){
+        return cursor - 1;
+      }
+
+      // Insert value before the cursor
+      // O(n)
+      public void add(Integer value){
+        addInt(cursor++, value);
+        lastReturned = -1;
+      }
+
+      // Remove the element returned by the last next() or previous()
+      // O(n)
+      public void remove(){
+        if(lastReturned < 0)
+          throw new IllegalStateException();
+        IntArrayList.this.remove(lastReturned);
+        if(lastReturned < cursor)
+          cursor--;
+        lastReturned = -1;
+      }
+
+      // Replace the element returned by the last next() or previous()
+      // O(1)
+      public void set(Integer value){
+        if(lastReturned < 0)
+          throw new IllegalStateException();
+        elements[lastReturned] = value;
+      }
+    }
+    // Clone method (deep copy)
+    // O(n)
+    public Object clone(){
+      IntArrayList copy = new IntArrayList(size);
+      System.arraycopy(elements, 0, copy.elements, 0, size);
+      copy.size = size;
+      return copy;
+    }
+    // Method to get the elements of the list as an array of type Object (boxes each value)
+    // O(n)
+    public Object[] toArray(){
+      Object[] array = new Object[size];
+      for(int i = 0; i < size; i++){
+        array[i] = elements[i];
+      }
+      return array;
+    }
+    // Method to get the elements of the list as an array of type int
+    // O(n)
+    public int[] toIntArray(){
+      return Arrays.copyOf(elements, size);
+    }
+    // Write a binary snapshot of the list, the values are copied in bulk, see ListSnapshot
+    // O(n)
+    public void writeTo(WritableByteChannel channel) throws IOException{
+      ListSnapshot.writeInts(elements, size, channel);
+    }
+    // Replace the contents of the list with a snapshot written by writeTo
+    // O(n)
+    public void readFrom(ReadableByteChannel channel) throws IOException{
+      int[] values = ListSnapshot.readInts(channel);
+      elements = (values.length == 0) ? new int[10] : values;
+      size = values.length;
+    }
+}
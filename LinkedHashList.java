@@ -0,0 +1,488 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+/**
+ * Class LinkedHashList
+ * LinkedList with a hash index from each value to its nodes, like a linked hash map
+ * Nodes holding equal values are chained in a ring in list order and the index maps the value
+ * to the first node of its ring, so contains and remove(Object) are O(1) expected and
+ * remove(Object) still removes the first occurrence
+ * The head/tail API and the indexed methods are those of LinkedList
+ * Date of creation: October 18, 2026
+ */
+public class LinkedHashList<E> implements Cloneable, List<E>{
+    // Data members
+    private Node head, tail;
+    private int size;
+    // value -> first node (in list order) holding that value
+    private final HashMap<Object, Node> index = new HashMap<>();
+    // Finger: the last node reached by index and its position
+    private Node finger;
+    private int fingerIndex;
+    // Inner class Node
+    private class Node{
+        E value;
+        Node next;
+        Node previous;
+        // ring of the nodes holding a value equal to this one, in list order
+        Node nextEqual;
+        Node previousEqual;
+
+        // O(1)
+        Node(E initialValue){
+            value = initialValue;
+            nextEqual = previousEqual = this;
+        }
+    }
+    // Constructor
+    // O(1)
+    public LinkedHashList(){
+        head = tail = null;
+        size = 0;
+    }
+
+    // Put node in the ring of its value as the last occurrence
+    // O(1)
+    private void indexLast(Node node){
+        Node first = index.putIfAbsent(node.value, node);
+        if(first != null)
+            ringBefore(first, node);
+    }
+    // Put node in the ring of its value as the first occurrence
+    // O(1)
+    private void indexFirst(Node node){
+        Node first = index.put(node.value, node);
+        if(first != null)
+            ringBefore(first, node);
+    }
+    // Put a node linked in the middle of the list in the ring of its value
+    // The nearest node with an equal value is searched on both sides of node
+    // O(1) for a new value - O(distance to the nearest equal value) otherwise
+    private void indexInner(Node node){
+        Node first = index.get(node.value);
+        if(first == null){
+            index.put(node.value, node);
+            return;
+        }
+        for(Node before = node.previous, after = node.next; ; ){
+            if(before != null){
+                if(Objects.equals(before.value, node.value)){
+                    ringBefore(before.nextEqual, node);
+                    return;
+                }
+                before = before.previous;
+            }
+            if(after != null){
+                if(Objects.equals(after.value, node.value)){
+                    ringBefore(after, node);
+                    if(after == first)
+                        index.put(node.value, node);
+                    return;
+                }
+                after = after.next;
+            }
+        }
+    }
+    // Link node in a ring just before other
+    // O(1)
+    private void ringBefore(Node other, Node node){
+        node.nextEqual = other;
+        node.previousEqual = other.previousEqual;
+        other.previousEqual.nextEqual = node;
+        other.previousEqual = node;
+    }
+    // Take node out of the ring of its value
+    // O(1)
+    private void unindex(Node node){
+        if(node.nextEqual == node){
+            index.remove(node.value);
+        } else {
+            node.previousEqual.nextEqual = node.nextEqual;
+            node.nextEqual.previousEqual = node.previousEqual;
+            if(index.get(node.value) == node)
+                index.put(node.value, node.nextEqual);
+            node.nextEqual = node.previousEqual = node;
+        }
+    }
+    // Rebuild the index after the values were reordered or replaced
+    // O(n)
+    private void reindex(){
+        index.clear();
+        for(Node node = head; node != null; node = node.next){
+            node.nextEqual = node.previousEqual = node;
+            indexLast(node);
+        }
+    }
+    // Find the node at a valid index starting from the closest of head, tail and finger
+    // O(1) for nearby or sequential indexes - O(n) otherwise
+    private Node node(int index){
+        Node current;
+        int position;
+        if(index < (size >> 1)){
+            current = head;
+            position = 0;
+        } else {
+            current = tail;
+            position = size - 1;
+        }
+        if(finger != null && Math.abs(index - fingerIndex) < Math.abs(index - position)){
+            current = finger;
+            position = fingerIndex;
+        }
+        while(position < index){
+            current = current.next;
+            position++;
+        }
+        while(position > index){
+            current = current.previous;
+            position--;
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+    // Link a new node holding value before following (at the end if following is null)
+    // O(1) at either end - see indexInner otherwise
+    private void linkBefore(Node following, E value){
+        Node newNode = new Node(value);
+        if(following == null){
+            newNode.previous = tail;
+            if(tail == null)
+                head = newNode;
+            else
+                tail.next = newNode;
+            tail = newNode;
+            indexLast(newNode);
+        } else {
+            newNode.next = following;
+            newNode.previous = following.previous;
+            if(following.previous == null)
+                head = newNode;
+            else
+                following.previous.next = newNode;
+            following.previous = newNode;
+            if(newNode == head)
+                indexFirst(newNode);
+            else
+                indexInner(newNode);
+        }
+        finger = null;
+        size++;
+    }
+    // Unlink a node from the list and from the index
+    // O(1)
+    private void unlink(Node node){
+        unindex(node);
+        if(node.previous == null)
+            head = node.next;
+        else
+            node.previous.next = node.next;
+        if(node.next == null)
+            tail = node.previous;
+        else
+            node.next.previous = node.previous;
+        finger = null;
+        size--;
+    }
+    // Replace the value of a node and move it to the ring of the new value
+    // O(1) if the value is unchanged or new - see indexInner otherwise
+    private E replace(Node node, E value){
+        E oldValue = node.value;
+        if(!Objects.equals(oldValue, value)){
+            unindex(node);
+            node.value = value;
+            indexInner(node);
+        } else {
+            node.value = value;
+        }
+        return oldValue;
+    }
+
+    // Adding an item to the head of the list
+    // O(1)
+    public boolean addFirst(E item){
+        linkBefore(head, item);
+        return true;
+    }
+    // Adding an item to the end of the list
+    // O(1)
+    public boolean addLast(E item){
+        linkBefore(null, item);
+        return true;
+    }
+    // Adding an item to the list
+    // O(1)
+    public boolean add(E item){
+        return addLast(item);
+    }
+    // Adding an item to the list at a specific index
+    // O(n)
+    public boolean add(int index, E item){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        linkBefore((index == size) ? null : node(index), item);
+        return true;
+    }
+    // Getting the item at the head of the list
+    // O(1)
+    public E getFirst(){
+        if(head == null)
+            throw new NoSuchElementException();
+        return head.value;
+    }
+    // Getting the element at the end of the list
+    // O(1)
+    public E getLast(){
+        if(head == null)
+            throw new NoSuchElementException();
+        return tail.value;
+    }
+    // Getting the item from the list
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public E get(int index){
+        checkIndex(index);
+        return node(index).value;
+    }
+    // Modify the value of an element in the list
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public E set(int index, E value){
+        checkIndex(index);
+        return replace(node(index), value);
+    }
+    // Remove the first occurrence of a value from the list
+    // O(1)
+    public boolean remove(Object o){
+        Node first = index.get(o);
+        if(first == null)
+            return false;
+        unlink(first);
+        return true;
+    }
+    // Remove an element from the list at a specific index
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public boolean remove(int index){
+        checkIndex(index);
+        unlink(node(index));
+        return true;
+    }
+    // Removing the item at the head of the list
+    // O(1)
+    public boolean removeFirst(){
+        if(head == null)
+            throw new NoSuchElementException();
+        unlink(head);
+        return true;
+    }
+    // Removing the item at the end of the list
+    // O(1)
+    public boolean removeLast(){
+        if(head == null)
+            throw new NoSuchElementException();
+        unlink(tail);
+        return true;
+    }
+    // Search for a value in the list
+    // O(1)
+    public boolean contains(Object o){
+        return index.containsKey(o);
+    }
+    // Search for another list in the list
+    // O(m)
+    public boolean containsAll(List<E> otherList){
+        Iterator<E> iter = otherList.iterator();
+        while(iter.hasNext()){
+            if(!index.containsKey(iter.next()))
+                return false;
+        }
+        return true;
+    }
+    // Removing elements of otherList
+    // Each element of otherList removes the first remaining occurrence of that value
+    // O(m)
+    public boolean removeAll(List<E> otherList){
+        int lastSize = size;
+        Object[] values = otherList.toArray();
+        for(Object value : values)
+            remove(value);
+        return lastSize != size;
+    }
+    // Retaining only the elements from otherList
+    // O(n + m)
+    public boolean retainAll(List<E> otherList){
+        HashSet<E> values = Lists.valueSet(otherList);
+        return removeIf(value -> !values.contains(value));
+    }
+    // Remove the elements that match filter, unlinked during one traversal
+    // O(n)
+    public boolean removeIf(Predicate<? super E> filter){
+        int lastSize = size;
+        Node current = head;
+        while(current != null){
+            Node next = current.next;
+            if(filter.test(current.value))
+                unlink(current);
+            current = next;
+        }
+        return lastSize != size;
+    }
+    // Replace each element by the result of operator on it, then rebuild the index
+    // O(n)
+    public void replaceAll(UnaryOperator<E> operator){
+        for(Node node = head; node != null; node = node.next)
+            node.value = operator.apply(node.value);
+        reindex();
+    }
+    // Sort the list with a stable merge sort (TimSort) on a copy written back into the same nodes
+    // O(n log n)
+    public void sort(Comparator<? super E> c){
+        Object[] array = toArray();
+        Arrays.sort(array, (Comparator<Object>) c);
+        int i = 0;
+        for(Node node = head; node != null; node = node.next)
+            node.value = (E) array[i++];
+        reindex();
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+    }
+    // toString() method
+    // O(n)
+    public String toString(){
+        StringBuilder output = new StringBuilder("[");
+        for(Node node = head; node != null; node = node.next)
+            output.append(node.value).append(' ');
+        return output.append(']').toString();
+    }
+    // clear, check if empty, and size of the list
+    // O(n) to empty the index
+    public void clear(){
+        head = tail = finger = null;
+        index.clear();
+        size = 0;
+    }
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Implementing an iterator for the list, its remove() is an O(1) unlink
+    // O(1)
+    public Iterator<E> iterator(){
+        return new LinkedHashListIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+        return new LinkedHashListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public ListIterator<E> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        return new LinkedHashListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class LinkedHashListIterator implements ListIterator<E>{
+        // node returned by the next call to next(), null at the end of the list
+        private Node following;
+        // node returned by the last next() or previous(), null after add() or remove()
+        private Node lastReturned;
+        private int index;
+        // O(1) near head, tail or the last index accessed - O(n) otherwise
+        public LinkedHashListIterator(int index){
+            this.index = index;
+            this.following = (index == size) ? null : node(index);
+        }
+        // O(1)
+        public boolean hasNext(){
+            return index < size;
+        }
+        // O(1)
+        public E next(){
+            if(following == null)
+                throw new NoSuchElementException();
+            lastReturned = following;
+            following = following.next;
+            index++;
+            return lastReturned.value;
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return index > 0;
+        }
+        // O(1)
+        public E previous(){
+            if(index == 0)
+                throw new NoSuchElementException();
+            following = (following == null) ? tail : following.previous;
+            lastReturned = following;
+            index--;
+            return lastReturned.value;
+        }
+        // O(1)
+        public int nextIndex(){
+            return index;
+        }
+        // O(1)
+        public int previousIndex(){
+            return index - 1;
+        }
+        // Link a new node before the cursor
+        // O(1) at either end or for a new value
+        public void add(E value){
+            linkBefore(following, value);
+            index++;
+            lastReturned = null;
+        }
+        // Unlink the node returned by the last next() or previous()
+        // O(1)
+        public void remove(){
+            if(lastReturned == null)
+                throw new IllegalStateException();
+            if(lastReturned == following)
+                following = following.next;
+            else
+                index--;
+            unlink(lastReturned);
+            lastReturned = null;
+        }
+        // O(1) for an unchanged or new value
+        public void set(E value){
+            if(lastReturned == null)
+                throw new IllegalStateException();
+            replace(lastReturned, value);
+        }
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n)
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        int i = 0;
+        for(Node node = head; node != null; node = node.next)
+            array[i++] = node.value;
+        return array;
+    }
+    // Clone method (deep copy)
+    // O(n)
+    public Object clone(){
+        LinkedHashList<E> copy = new LinkedHashList<>();
+        for(Node node = head; node != null; node = node.next)
+            copy.addLast(node.value);
+        return copy;
+    }
+}
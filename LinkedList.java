@@ -1,6 +1,16 @@
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 /**
  * Class LinkedList
  * @author Houria Oudghiri
@@ -11,6 +21,12 @@ public class LinkedList<E> implements Cloneable, List<E>{
      // Data members
 	private Node head, tail;
 	int size;
+    // Finger: the last node reached by index and its position
+    private Node finger;
+    private int fingerIndex;
+    // Lists sharing the nodes since clone() (this one included), null while the nodes belong
+    // to this list only. The shared nodes are copied before their first write by any of them
+    private AtomicInteger sharers;
     // Inner class Node
 	private class Node{
 		E value;
@@ -30,10 +46,96 @@ public class LinkedList<E> implements Cloneable, List<E>{
 		head = tail = null;
 		size = 0;
 	}
+    // Find the node at a valid index starting from the closest of head, tail and finger
+    // O(1) for nearby or sequential indexes - O(n) otherwise
+    private Node node(int index){
+        Node current;
+        int position;
+        if(index < (size >> 1)){
+            current = head;
+            position = 0;
+        } else {
+            current = tail;
+            position = size - 1;
+        }
+        if(finger != null && Math.abs(index - fingerIndex) < Math.abs(index - position)){
+            current = finger;
+            position = fingerIndex;
+        }
+        if(ListMetrics.enabled)
+            ListMetrics.hopped(Math.abs(index - position));
+        while(position < index){
+            current = current.next;
+            position++;
+        }
+        while(position > index){
+            current = current.previous;
+            position--;
+        }
+        finger = current;
+        fingerIndex = index;
+        return current;
+    }
+    // Copy the nodes before a write if another list still shares them, the finger is dropped
+    // Returns true if the nodes were copied
+    // O(1) - O(n) for the first write after clone()
+    private boolean beforeWrite(){
+        if(sharers == null)
+            return false;
+        if(sharers.get() == 1){
+            releaseShare();
+            return false;
+        }
+        Node first = null, last = null;
+        for(Node node = head; node != null; node = node.next){
+            Node newNode = new Node(node.value);
+            newNode.previous = last;
+            if(last == null)
+                first = newNode;
+            else
+                last.next = newNode;
+            last = newNode;
+        }
+        head = first;
+        tail = last;
+        finger = null;
+        releaseShare();
+        return true;
+    }
+    // Stop sharing the nodes, called once this list has nodes of its own
+    // O(1)
+    private void releaseShare(){
+        if(sharers != null){
+            sharers.decrementAndGet();
+            sharers = null;
+        }
+    }
+    // Unlink any node, the finger is dropped
+    // O(1)
+    private void unlink(Node node){
+        if(node.previous == null)
+            head = node.next;
+        else
+            node.previous.next = node.next;
+        if(node.next == null)
+            tail = node.previous;
+        else
+            node.next.previous = node.previous;
+        finger = null;
+        size--;
+    }
+    // Unlink a node from the middle of the list (node is neither head nor tail)
+    // O(1)
+    private void unlinkInner(Node node){
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        size--;
+    }
 
     // Adding an item to the head of the list
     // O(1)
     public boolean addFirst(E item) {
+		beforeWrite();
 		Node newNode = new Node(item);
 		if(head == null) {
             head = tail = newNode; 
@@ -43,12 +145,14 @@ public class LinkedList<E> implements Cloneable, List<E>{
             head.previous = newNode; // creating the link backward from the old head to newNode;
 			head = newNode;
 		}
+        fingerIndex++;
 		size++; 
         return true;
     }
     // Adding an item to the end of the list
     // O(1)
     public boolean addLast(E item) {
+        beforeWrite();
         Node newNode = new Node(item);
 		if(head == null) { 
             head = tail = newNode; 
@@ -69,7 +173,6 @@ public class LinkedList<E> implements Cloneable, List<E>{
     // Adding an item to the list at a specific index
     // O(n)
     public boolean add(int index, E item){
-        Node temp = new Node(item);
         if(index < 0 || index > size){
             throw new IndexOutOfBoundsException();
         } else if(index == 0){
@@ -77,15 +180,15 @@ public class LinkedList<E> implements Cloneable, List<E>{
         } else if(index == size){
             add(item);
         } else{
-            Node current = head;
-            for(int i = 0; i < index; i++){
-                current = current.next;
-            }
+            beforeWrite();
+            Node temp = new Node(item);
+            Node current = node(index);
             Node previous = current.previous;
             previous.next = temp;
             temp.previous = previous;
             temp.next = current;
             current.previous = temp;
+            finger = temp;
             size++;
         }
         return true;
@@ -106,31 +209,19 @@ public class LinkedList<E> implements Cloneable, List<E>{
 		return tail.value;
     }
     // Getting the item from the list
-    // O(n)
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
     public E get(int index){
-        Node current = head;
         if(index < 0 || index >= size)
             throw new IndexOutOfBoundsException();
-        if(index == 0){
-            return getFirst();
-        } else if(index == (size - 1)){
-            return getLast();
-        } else {
-            for(int i = 0; i < index - 1; i++){
-                current = current.next;
-            }
-        }
-        return current.value;
+        return node(index).value;
     }
     // Modify the value of an element in the list
-    // O(n)
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
     public E set(int index, E value){
         if(index < 0 || index >= size)
             throw new IndexOutOfBoundsException();
-        Node current = head;
-        for(int i = 0; i < index; i++){
-            current = current.next;
-        }
+        beforeWrite();
+        Node current = node(index);
         E oldValue = current.value;
         current.value = value;
         return oldValue;
@@ -140,30 +231,32 @@ public class LinkedList<E> implements Cloneable, List<E>{
     public boolean remove(Object o){
         Node toRemove = null;
         Node current = head;
+        int index = 0;
         while(current != null){
             if(current.value.equals(o)){
                 toRemove = current;
                 break;
             }
             current = current.next;
+            index++;
         }
         if(toRemove == null){
             return false;
         }
+        if(beforeWrite())
+            toRemove = node(index);
         if(toRemove == head){
             removeFirst();
         } else if(toRemove == tail){
             removeLast();
         } else {
-            Node next = toRemove.next;
-            Node previous = toRemove.previous;
-            next.previous = previous;
-            previous.next = next;
+            finger = null;
+            unlinkInner(toRemove);
         }
         return true;
     }
     // Remove an element from the list at a specific index
-    // O(n)
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
     public boolean remove(int index){
         if(index < 0 || index >= size)
             throw new IndexOutOfBoundsException();
@@ -172,24 +265,65 @@ public class LinkedList<E> implements Cloneable, List<E>{
         } else if(index == size - 1){
             return removeLast();
         } else {
-            Node current = head;
-            for(int i = 0; i < index; i++){
-                current = current.next;
-            }
-            System.out.println(current.value);
-            Node previous = current.previous;
-            Node next = current.next;
-            previous.next = current.next;
-            next.previous = previous;
-            size--;
+            beforeWrite();
+            Node current = node(index);
+            finger = current.next;
+            unlinkInner(current);
             return true;
         }
     }
+    // Remove the elements from fromIndex (inclusive) to toIndex (exclusive)
+    // The nodes around the range are linked to each other once
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
+    public void removeRange(int fromIndex, int toIndex){
+        Lists.checkRange(fromIndex, toIndex, size);
+        if(fromIndex == toIndex)
+            return;
+        beforeWrite();
+        Node before = (fromIndex == 0) ? null : node(fromIndex - 1);
+        Node after = (toIndex == size) ? null : node(toIndex);
+        if(before == null)
+            head = after;
+        else
+            before.next = after;
+        if(after == null)
+            tail = before;
+        else
+            after.previous = before;
+        size -= toIndex - fromIndex;
+        finger = after;
+        fingerIndex = fromIndex;
+    }
+    // Remove the elements that match filter, unlinked during one traversal
+    // O(n)
+    public boolean removeIf(Predicate<? super E> filter){
+        beforeWrite();
+        int lastSize = size;
+        Node current = head;
+        while(current != null){
+            Node next = current.next;
+            if(filter.test(current.value))
+                unlink(current);
+            current = next;
+        }
+        return lastSize != size;
+    }
+    // Replace each element by the result of operator on it
+    // O(n)
+    public void replaceAll(UnaryOperator<E> operator){
+        beforeWrite();
+        for(Node node = head; node != null; node = node.next)
+            node.value = operator.apply(node.value);
+    }
     // Removing the item at the head of the list
     // O(1)
     public boolean removeFirst() {
 		if (head == null) 
             throw new NoSuchElementException();
+        beforeWrite();
+        if(finger == head)
+            finger = null;
+        fingerIndex--;
 		head = head.next;
 		if(head == null)
             tail = null;
@@ -206,6 +340,9 @@ public class LinkedList<E> implements Cloneable, List<E>{
             throw new NoSuchElementException();
 		if(size == 1) 
             return removeFirst();
+        beforeWrite();
+        if(finger == tail)
+            finger = null;
 		tail = tail.previous;
         tail.next = null;
 		size--; 
@@ -223,63 +360,23 @@ public class LinkedList<E> implements Cloneable, List<E>{
             return true;
         return false;
     }
-    // Search for another list in the list
-    // O(n)
-    public boolean containsAll(List<E> otherList){
-        for(int i = 0; i < otherList.size(); i++){
-            if(!contains(otherList.get(i))){
-                return false;
-            }
-        }
-        return true;
-    }
-    // Adding another list to the list
-    // O(n)
-    public boolean addAll(List<E> otherList){
-        int lastSize = size;
-        for(int i = 0; i < otherList.size(); i++){
-            add(otherList.get(i));
-        }
-        return lastSize != size;
-    }
-    // Removing elements of otherList
-    // O(n)
-    public boolean removeAll(List<E> otherList){
-        int lastSize = size;
-        for(int i = 0; i < otherList.size(); i++){
-            if(this.contains(otherList.get(i))){
-                remove(otherList.get(i));
-            }
-        }
-        return true;
-    }
-    // Retaining only the elements from otherList
-    // O(n)
-    public boolean retainAll(List<E> otherList){
-        int lastSize = size;
-        for(int i = 0; i < otherList.size(); i++){
-          if(!this.contains(otherList.get(i))){
-            remove(otherList.get(i));
-          }
-        }
-        return true;
-    }
     // toString() method
     // O(n)
     public String toString() {
-		String output = "[";
+		StringBuilder output = new StringBuilder("[");
 		Node node = head;
 		while(node != null) {
-			output += node.value + " ";
+			output.append(node.value).append(' ');
 			node = node.next;
 		}
-		output += "]";
-		return output;
+		return output.append(']').toString();
     }
     // clear, check if empty, and size of the list
+    // Shared nodes are left to the other lists
     // O(1)
     public void clear() {
-        head = tail = null; 
+        releaseShare();
+        head = tail = finger = null; 
         size = 0; 
     }
     // O(1)
@@ -290,103 +387,124 @@ public class LinkedList<E> implements Cloneable, List<E>{
     public int size() {
         return size; 
     } 
-    // Implementing an iterator for the list
+    // Implementing an iterator for the list, its remove() is an O(1) unlink
     // O(1)
     public Iterator<E> iterator(){
-		  return new LinkedListIterator();
-    }
-    // Inner class to implement the interface Iterator
-    private class LinkedListIterator implements Iterator<E>{
-		private Node current = head;
-        // O(1)
-		public boolean hasNext() {
-			return (current != null);
-		}
-        // O(1)
-	    public E next() {
-            if(current == null)
-			  throw new NoSuchElementException();
-			E value = current.value;
-			current = current.next; 
-            return value;
-		}
+		  return new LinkedListListIterator(0);
     }
     // Method to get a list iterator for the list
+    // O(1)
     public ListIterator<E> listIterator(){
-        return new LinkedListListIterator();
+        return new LinkedListListIterator(0);
     }
     // Method to get a list iterator for the list at a specific position
+    // O(1) near head, tail or the last index accessed - O(n) otherwise
     public ListIterator<E> listIterator(int index){
-        if(index < 0 || index >= size)
+        if(index < 0 || index > size)
             throw new IndexOutOfBoundsException();
         return new LinkedListListIterator(index);
     }
     // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    // add() and remove() splice the nodes around the cursor in O(1)
+    // If the first write copies the nodes shared with a clone, the iterator moves to the copies
     private class LinkedListListIterator implements ListIterator<E>{
-        private Node current;
-        // O(1)
-        public LinkedListListIterator(){
-            this.current = head;
-        }
-        // O(n)
+        // node returned by the next call to next(), null at the end of the list
+        private Node following;
+        // node returned by the last next() or previous(), null after add() or remove()
+        private Node lastReturned;
+        private int index;
+        // O(1) near head, tail or the last index accessed - O(n) otherwise
         public LinkedListListIterator(int index){
-            this.current = head;
-            for(int i = 0; i < index; i++){
-                current = current.next;
-            }
+            this.index = index;
+            this.following = (index == size) ? null : node(index);
         }
         // O(1)
 		public boolean hasNext() {
-			return (current != null);
+			return index < size;
 		}
         // O(1)
 	    public E next() {
-            if(current == null)
+            if(following == null)
 			  throw new NoSuchElementException();
-			E value = current.value;
-			current = current.next; 
-            return value;
+            lastReturned = following;
+			following = following.next;
+            index++;
+            return lastReturned.value;
         }
         // O(1)
         public boolean hasPrevious(){
-            if(current != null){
-                return true;
-            }
-            return false;
+            return index > 0;
         }
         // O(1)
         public E previous(){
-            E value = null;
-            if(current != null){
-                value = current.value;
-                current = current.previous;
-                return value;
-            }
-            throw new NoSuchElementException();
+            if(index == 0)
+                throw new NoSuchElementException();
+            following = (following == null) ? tail : following.previous;
+            lastReturned = following;
+            index--;
+            return lastReturned.value;
         }
         // O(1)
-        public void add(E value){
-            throw new UnsupportedOperationException();
+        public int nextIndex(){
+            return index;
         }
-
         // O(1)
-        public void remove(){
-            throw new UnsupportedOperationException();
+        public int previousIndex(){
+            return index - 1;
         }
-
+        // Copy the shared nodes before a write and find the copies of following and lastReturned
+        // O(1) - O(n) for the first write after clone()
+        private void beforeWrite(){
+            boolean returnedByNext = lastReturned != null && lastReturned != following;
+            boolean returnedByPrevious = lastReturned != null && lastReturned == following;
+            if(!LinkedList.this.beforeWrite())
+                return;
+            following = (index == size) ? null : node(index);
+            if(returnedByNext)
+                lastReturned = (following == null) ? tail : following.previous;
+            else if(returnedByPrevious)
+                lastReturned = following;
+        }
+        // Link a new node before the cursor
         // O(1)
-        public void set(E value){
-            throw new UnsupportedOperationException();
+        public void add(E value){
+            beforeWrite();
+            if(following == null){
+                addLast(value);
+            } else if(following == head){
+                addFirst(value);
+            } else {
+                Node newNode = new Node(value);
+                newNode.previous = following.previous;
+                newNode.next = following;
+                following.previous.next = newNode;
+                following.previous = newNode;
+                finger = null;
+                size++;
+            }
+            index++;
+            lastReturned = null;
         }
-
+        // Unlink the node returned by the last next() or previous()
         // O(1)
-        public int nextIndex(){
-            throw new UnsupportedOperationException();
+        public void remove(){
+            if(lastReturned == null)
+                throw new IllegalStateException();
+            beforeWrite();
+            if(lastReturned == following)
+                following = following.next;
+            else
+                index--;
+            unlink(lastReturned);
+            lastReturned = null;
         }
-
         // O(1)
-        public int previousIndex(){
-            throw new UnsupportedOperationException();
+        public void set(E value){
+            if(lastReturned == null)
+                throw new IllegalStateException();
+            beforeWrite();
+            lastReturned.value = value;
         }
     }
     // Method to get the elements of the list as an array of type Object
@@ -400,13 +518,140 @@ public class LinkedList<E> implements Cloneable, List<E>{
         }
         return array;
     }
-    // Clone method (deep copy)
+    // Sort the list by relinking its nodes with a bottom-up merge sort, no value is copied
+    // Each pass merges neighboring sorted runs of width nodes, taking from the left run on ties
+    // so the sort is stable
+    // O(n log n)
+    public void sort(Comparator<? super E> c){
+        Comparator<? super E> order = (c != null) ? c : (Comparator<? super E>) Comparator.naturalOrder();
+        if(size < 2)
+            return;
+        beforeWrite();
+        Node list = head;
+        for(int width = 1; ; width *= 2){
+            Node left = list;
+            Node last = null;
+            int merges = 0;
+            list = null;
+            while(left != null){
+                merges++;
+                Node right = left;
+                int leftSize = 0;
+                for(int i = 0; i < width && right != null; i++){
+                    leftSize++;
+                    right = right.next;
+                }
+                int rightSize = width;
+                while(leftSize > 0 || (rightSize > 0 && right != null)){
+                    Node smallest;
+                    if(leftSize == 0 || (rightSize > 0 && right != null
+                                         && order.compare(right.value, left.value) < 0)){
+                        smallest = right;
+                        right = right.next;
+                        rightSize--;
+                    } else {
+                        smallest = left;
+                        left = left.next;
+                        leftSize--;
+                    }
+                    if(last == null)
+                        list = smallest;
+                    else
+                        last.next = smallest;
+                    smallest.previous = last;
+                    last = smallest;
+                }
+                left = right;
+            }
+            last.next = null;
+            if(merges <= 1){
+                head = list;
+                tail = last;
+                finger = null;
+                return;
+            }
+        }
+    }
+    // Spliterator for the list, splits off batches of consecutive nodes
+    // O(1)
+    public Spliterator<E> spliterator(){
+        return new LinkedListSpliterator();
+    }
+    // Inner class that implements the interface Spliterator<E>
+    // Each split copies the values of the next run of nodes into an array spliterator,
+    // the runs grow by BATCH_UNIT so that k splits cover BATCH_UNIT * k * (k + 1) / 2 nodes,
+    // about sqrt(2n / BATCH_UNIT) splits for n nodes
+    private class LinkedListSpliterator implements Spliterator<E>{
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+        private Node current = head;
+        private int remaining = size;
+        private int batch = 0;
+        // O(batch)
+        public Spliterator<E> trySplit(){
+            if(current == null || remaining <= 1)
+                return null;
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] values = new Object[n];
+            for(int i = 0; i < n; i++){
+                values[i] = current.value;
+                current = current.next;
+            }
+            batch = n;
+            remaining -= n;
+            return Spliterators.spliterator(values, 0, n, Spliterator.ORDERED);
+        }
+        // O(1)
+        public boolean tryAdvance(Consumer<? super E> action){
+            if(current == null)
+                return false;
+            E value = current.value;
+            current = current.next;
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+        // O(remaining)
+        public void forEachRemaining(Consumer<? super E> action){
+            for(Node node = current; node != null; node = node.next)
+                action.accept(node.value);
+            current = null;
+            remaining = 0;
+        }
+        // O(1)
+        public long estimateSize(){
+            return remaining;
+        }
+        // O(1)
+        public int characteristics(){
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+    }
+    // Write a binary snapshot of the list (String, Integer, Long or Double elements), see ListSnapshot
+    // O(n)
+    public void writeTo(WritableByteChannel channel) throws IOException{
+        ListSnapshot.write(toArray(), channel);
+    }
+    // Replace the contents of the list with a snapshot written by writeTo
     // O(n)
+    public void readFrom(ReadableByteChannel channel) throws IOException{
+        Object[] values = ListSnapshot.read(channel);
+        clear();
+        for(Object value : values)
+            addLast((E) value);
+    }
+    // Clone method, copy on write: the copy shares the nodes with this list and the first
+    // write to either list copies them (a copy dropped without a write still counts as a sharer)
+    // O(1)
     public Object clone(){
+        if(sharers == null)
+            sharers = new AtomicInteger(1);
+        sharers.incrementAndGet();
         LinkedList<E> copy = new LinkedList<>();
-        for(Node node = head; node!=null; node = node.next){
-            copy.add(node.value);
-        }
+        copy.head = head;
+        copy.tail = tail;
+        copy.size = size;
+        copy.sharers = sharers;
         return copy;
     }
 }
\ No newline at end of file
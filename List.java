@@ -4,10 +4,23 @@
  * Date of creation: October 21, 2022
  * Date of last modification: October 22, 2022
  */
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 /**
  * Interface List to model the common behavior of lists
+ * The bulk operations have default implementations that walk otherList once,
+ * by index if it implements java.util.RandomAccess and through its iterator otherwise
  */
 public interface List<E>{
     /**
@@ -86,22 +99,50 @@ public interface List<E>{
      * @param otherList list to be searched for
      * @return true if all the elements in otherList are found in this list, false otherwise
      */
-    public boolean containsAll(List<E> otherList);
+    public default boolean containsAll(List<E> otherList){
+        HashSet<E> values = Lists.valueSet(this);
+        Iterator<E> iter = otherList.iterator();
+        while(iter.hasNext()){
+            if(!values.contains(iter.next())){
+                return false;
+            }
+        }
+        return true;
+    }
     
      /**
      * Method to add another list to the list
      * @param otherList list to be added
      * @return true if all the elements in otherList were added to this list successfully
      */
-    public boolean addAll(List<E> otherList);
+    public default boolean addAll(List<E> otherList){
+        int lastSize = size();
+        Lists.forEach(otherList, otherList.size(), this::add);
+        return lastSize != size();
+    }
      
      /**
      * Set difference
      * Method to remove the elements of otherList from the list if they are found in the list
+     * Each element of otherList removes at most one matching element of this list
      * @param otherList list to be removed from the list
      * @return true if the elements from otherList were removed from this list successfully
      */
-    public boolean removeAll(List<E> otherList);
+    public default boolean removeAll(List<E> otherList){
+        HashMap<E, Integer> counts = Lists.valueCounts(otherList);
+        Object[] values = toArray();
+        clear();
+        for(Object o : values){
+            E value = (E) o;
+            Integer count = counts.get(value);
+            if(count != null && count > 0){
+                counts.put(value, count - 1);
+            } else {
+                add(value);
+            }
+        }
+        return values.length != size();
+    }
     
      /**
      * Set intersection
@@ -109,7 +150,53 @@ public interface List<E>{
      * @param otherList list of elements to be retained in this list if found
      * @return true if the intersection was performed successfully
      */
-    public boolean retainAll(List<E> otherList);
+    public default boolean retainAll(List<E> otherList){
+        HashSet<E> retained = Lists.valueSet(otherList);
+        Object[] values = toArray();
+        clear();
+        for(Object o : values){
+            E value = (E) o;
+            if(retained.contains(value)){
+                add(value);
+            }
+        }
+        return values.length != size();
+    }
+     
+     /**
+     * Method to remove the elements that match a condition
+     * @param filter condition on the elements to remove
+     * @return true if at least one element was removed
+     * if filter throws an exception, the elements not tested yet are kept
+     */
+    public default boolean removeIf(Predicate<? super E> filter){
+        Object[] values = toArray();
+        clear();
+        int i = 0;
+        try {
+            for(; i < values.length; i++){
+                E value = (E) values[i];
+                if(!filter.test(value)){
+                    add(value);
+                }
+            }
+        } finally {
+            for(; i < values.length; i++){
+                add((E) values[i]);
+            }
+        }
+        return values.length != size();
+    }
+
+     /**
+     * Method to replace each element of the list by the result of an operator on it
+     * @param operator function applied to each element
+     */
+    public default void replaceAll(UnaryOperator<E> operator){
+        for(int i = 0; i < size(); i++){
+            set(i, operator.apply(get(i)));
+        }
+    }
      
      /**
      * Method to get an iterator for the list
@@ -139,4 +226,73 @@ public interface List<E>{
      * @return array of type Object containing all the elements of this list
      */
     public Object[] toArray();
+
+    /**
+     * Method to get a view of a range of the list, the elements are not copied
+     * Changes made through the view are made to this list, clear() on the view removes the range
+     * The view is undefined once this list is changed other than through the view
+     * @param fromIndex index of the first element of the view
+     * @param toIndex index after the last element of the view
+     * @return list view of the elements from fromIndex (inclusive) to toIndex (exclusive)
+     * throws an exception of type IndexOutOfBoundsException if the range is invalid
+     */
+    public default List<E> subList(int fromIndex, int toIndex){
+        Lists.checkRange(fromIndex, toIndex, size());
+        if(this instanceof RandomAccess)
+            return new Lists.RandomAccessSubList<>(this, fromIndex, toIndex);
+        return new Lists.SubList<>(this, fromIndex, toIndex);
+    }
+
+    /**
+     * Method to remove a range of elements from the list
+     * @param fromIndex index of the first element to remove
+     * @param toIndex index after the last element to remove
+     * throws an exception of type IndexOutOfBoundsException if the range is invalid
+     */
+    public default void removeRange(int fromIndex, int toIndex){
+        Lists.checkRange(fromIndex, toIndex, size());
+        for(int i = fromIndex; i < toIndex; i++){
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Method to sort the list, the sort is stable (equal elements keep their order)
+     * @param c comparator defining the order, null to use the natural order of the elements
+     */
+    public default void sort(Comparator<? super E> c){
+        Object[] values = toArray();
+        Arrays.sort(values, (Comparator<Object>) c);
+        clear();
+        for(Object value : values){
+            add((E) value);
+        }
+    }
+
+    /**
+     * Method to get a spliterator over the elements of the list
+     * Lists marked RandomAccess are split by index range, the others through their iterator
+     * @return spliterator reporting at least SIZED and ORDERED
+     */
+    public default Spliterator<E> spliterator(){
+        if(this instanceof RandomAccess)
+            return new Lists.IndexSpliterator<>(this, 0, size());
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * Method to get a sequential stream over the elements of the list
+     * @return stream of the elements of this list in order
+     */
+    public default Stream<E> stream(){
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Method to get a possibly parallel stream over the elements of the list
+     * @return stream of the elements of this list that may be processed with fork-join parallelism
+     */
+    public default Stream<E> parallelStream(){
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
\ No newline at end of file
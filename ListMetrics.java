@@ -0,0 +1,211 @@
+import com.sun.management.HotSpotDiagnosticMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+/**
+ * Class ListMetrics
+ * Process-wide counters and latency histograms of the lists, exported through JMX and JFR
+ * ArrayList and LinkedList report their structural work (resizes, shifts, node hops),
+ * InstrumentedList reports the latency of each call
+ * Recording is off by default (or -Dlists.metrics=true), when off each hook costs one field read
+ * Latencies go in log2 buckets: bucket i counts the calls that took [2^(i-1), 2^i) nanoseconds
+ * While a JFR recording is running, resizes and timed calls are also committed as
+ * lists.Resize and lists.Operation events
+ * Date of creation: October 18, 2026
+ */
+public final class ListMetrics implements ListMetricsMBean{
+    // Operations timed by InstrumentedList
+    public enum Operation{
+        ADD, ADD_AT, GET, SET, CLEAR, REMOVE, REMOVE_AT, CONTAINS,
+        CONTAINS_ALL, ADD_ALL, REMOVE_ALL, RETAIN_ALL, REMOVE_IF, REPLACE_ALL, REMOVE_RANGE, SORT, TO_ARRAY
+    }
+    private static final int BUCKETS = 65;
+    private static final String OBJECT_NAME = "lists:type=ListMetrics";
+    private static final ListMetrics INSTANCE = new ListMetrics();
+    // Read by the hooks before doing anything else
+    static volatile boolean enabled = Boolean.getBoolean("lists.metrics");
+    // Counters
+    private static final LongAdder resizes = new LongAdder();
+    private static final LongAdder bytesCopied = new LongAdder();
+    private static final LongAdder elementsShifted = new LongAdder();
+    private static final LongAdder nodeHops = new LongAdder();
+    // latencies[operation][bucket], totalNanos[operation]
+    private static final LongAdder[][] latencies = new LongAdder[Operation.values().length][BUCKETS];
+    private static final LongAdder[] totalNanos = new LongAdder[Operation.values().length];
+    static {
+        for(int i = 0; i < latencies.length; i++){
+            for(int j = 0; j < BUCKETS; j++)
+                latencies[i][j] = new LongAdder();
+            totalNanos[i] = new LongAdder();
+        }
+    }
+    // JFR event for a call timed by InstrumentedList
+    @Name("lists.Operation")
+    @Label("List Operation")
+    @Category("Lists")
+    static final class OperationEvent extends Event{
+        @Label("Operation")
+        String operation;
+        @Label("List Class")
+        String listClass;
+        @Label("Size")
+        int size;
+        @Label("Latency")
+        @Timespan(Timespan.NANOSECONDS)
+        long latency;
+    }
+    // JFR event for a resize (growth or shrink) of the array of an ArrayList
+    @Name("lists.Resize")
+    @Label("List Resize")
+    @Category("Lists")
+    static final class ResizeEvent extends Event{
+        @Label("List Class")
+        String listClass;
+        @Label("Old Capacity")
+        int oldCapacity;
+        @Label("New Capacity")
+        int newCapacity;
+        @Label("Bytes Copied")
+        @DataAmount(DataAmount.BYTES)
+        long bytesCopied;
+    }
+    // Size of a reference in the heap, looked up the first time a resize is recorded
+    private static final class ReferenceSize{
+        static final int BYTES = referenceBytes();
+        // O(1)
+        private static int referenceBytes(){
+            try {
+                HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+                return Boolean.parseBoolean(hotSpot.getVMOption("UseCompressedOops").getValue()) ? 4 : 8;
+            } catch(RuntimeException e) {
+                return 8;
+            }
+        }
+    }
+
+    // Only the shared instance exists
+    private ListMetrics(){
+    }
+    // The metrics, for direct use without JMX
+    // O(1)
+    public static ListMetrics get(){
+        return INSTANCE;
+    }
+    // Register the MBean with the platform MBean server, registering twice has no effect
+    // O(1)
+    public static ListMetrics register() throws JMException{
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch(InstanceAlreadyExistsException e) {
+            // already registered
+        }
+        return INSTANCE;
+    }
+
+    // Hooks called by the lists, only while enabled
+    // O(1)
+    static void resized(Object list, int oldCapacity, int newCapacity, int copied){
+        long bytes = (long) copied * ReferenceSize.BYTES;
+        resizes.increment();
+        bytesCopied.add(bytes);
+        ResizeEvent event = new ResizeEvent();
+        if(event.shouldCommit()){
+            event.listClass = list.getClass().getName();
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.bytesCopied = bytes;
+            event.commit();
+        }
+    }
+    // O(1)
+    static void shifted(int elements){
+        elementsShifted.add(elements);
+    }
+    // O(1)
+    static void hopped(int hops){
+        nodeHops.add(hops);
+    }
+    // Record a call to operation on list that started at start (System.nanoTime)
+    // O(1)
+    static void timed(Operation operation, List<?> list, long start){
+        long nanos = Math.max(System.nanoTime() - start, 0);
+        latencies[operation.ordinal()][64 - Long.numberOfLeadingZeros(nanos)].increment();
+        totalNanos[operation.ordinal()].add(nanos);
+        OperationEvent event = new OperationEvent();
+        if(event.shouldCommit()){
+            event.operation = operation.name();
+            event.listClass = list.getClass().getName();
+            event.size = list.size();
+            event.latency = nanos;
+            event.commit();
+        }
+    }
+
+    // ListMetricsMBean
+    // O(1)
+    public boolean isEnabled(){
+        return enabled;
+    }
+    // O(1)
+    public void setEnabled(boolean enabled){
+        ListMetrics.enabled = enabled;
+    }
+    // O(1)
+    public long getResizes(){
+        return resizes.sum();
+    }
+    // O(1)
+    public long getBytesCopied(){
+        return bytesCopied.sum();
+    }
+    // O(1)
+    public long getElementsShifted(){
+        return elementsShifted.sum();
+    }
+    // O(1)
+    public long getNodeHops(){
+        return nodeHops.sum();
+    }
+    // O(1)
+    public String[] getOperations(){
+        return Arrays.stream(Operation.values()).map(Operation::name).toArray(String[]::new);
+    }
+    // O(BUCKETS)
+    public long[] getLatencyHistogram(String operation){
+        LongAdder[] buckets = latencies[Operation.valueOf(operation).ordinal()];
+        long[] counts = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++)
+            counts[i] = buckets[i].sum();
+        return counts;
+    }
+    // O(BUCKETS)
+    public double getMeanLatency(String operation){
+        long calls = 0;
+        for(long count : getLatencyHistogram(operation))
+            calls += count;
+        return (calls == 0) ? 0 : (double) totalNanos[Operation.valueOf(operation).ordinal()].sum() / calls;
+    }
+    // O(BUCKETS)
+    public void reset(){
+        resizes.reset();
+        bytesCopied.reset();
+        elementsShifted.reset();
+        nodeHops.reset();
+        for(int i = 0; i < latencies.length; i++){
+            for(LongAdder bucket : latencies[i])
+                bucket.reset();
+            totalNanos[i].reset();
+        }
+    }
+}
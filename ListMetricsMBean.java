@@ -0,0 +1,68 @@
+/**
+ * Interface ListMetricsMBean
+ * Management interface of ListMetrics, registered as lists:type=ListMetrics
+ * Date of creation: October 18, 2026
+ */
+public interface ListMetricsMBean{
+    /**
+     * Method to check if the metrics are being recorded
+     * @return true if the lists and the instrumented lists record metrics
+     */
+    public boolean isEnabled();
+
+    /**
+     * Method to turn the recording of the metrics on or off
+     * @param enabled true to record, false to stop recording
+     */
+    public void setEnabled(boolean enabled);
+
+    /**
+     * Method to get the number of times an ArrayList grew or shrank its array
+     * @return number of resizes of the arrays of ArrayList
+     */
+    public long getResizes();
+
+    /**
+     * Method to get the number of bytes copied by the resizes
+     * @return bytes of references copied into the new arrays, an estimate from the reference size
+     */
+    public long getBytesCopied();
+
+    /**
+     * Method to get the number of elements moved to open or close a gap
+     * @return elements shifted by ArrayList add(int, E), remove(int) and the range operations
+     */
+    public long getElementsShifted();
+
+    /**
+     * Method to get the number of links followed to reach an index
+     * @return node hops in LinkedList get, set and the other indexed operations
+     */
+    public long getNodeHops();
+
+    /**
+     * Method to get the names of the timed operations
+     * @return names accepted by getLatencyHistogram and getMeanLatency
+     */
+    public String[] getOperations();
+
+    /**
+     * Method to get the latency histogram of an operation of InstrumentedList
+     * @param operation name of the operation
+     * @return count[i] = number of calls that took between 2^(i-1) (inclusive) and 2^i (exclusive) nanoseconds
+     *         (count[0] for 0 ns)
+     */
+    public long[] getLatencyHistogram(String operation);
+
+    /**
+     * Method to get the mean latency of an operation of InstrumentedList
+     * @param operation name of the operation
+     * @return mean time of a call in nanoseconds, 0 if the operation was not called
+     */
+    public double getMeanLatency(String operation);
+
+    /**
+     * Method to set all the counters and histograms back to 0
+     */
+    public void reset();
+}
@@ -0,0 +1,324 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+/**
+ * Class ListSnapshot
+ * Binary snapshot format used by writeTo/readFrom of the lists
+ * Header: magic "LIST" (int), version (byte), element kind (byte), number of elements (int),
+ *         length of the body in bytes (long)
+ * Body:   STRING - for each element its UTF-8 length (int, -1 for null) followed by its bytes
+ *         INT, LONG, DOUBLE - the values, 4 or 8 bytes each
+ * All numbers are big-endian, data goes through a direct buffer in blocks of BLOCK_SIZE bytes
+ * A reader fills its buffer a whole block at a time up to the end of the body and never past it,
+ * so snapshots can follow each other on a channel
+ * Date of creation: October 18, 2026
+ */
+final class ListSnapshot{
+    private static final int MAGIC = 0x4C495354;
+    private static final byte VERSION = 2;
+    private static final int HEADER_SIZE = 18;
+    private static final int BLOCK_SIZE = 1 << 16;
+    // Element kinds
+    static final byte STRING = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+
+    // No instances
+    private ListSnapshot(){
+    }
+    // Kind of the elements of values, all non-null values must have the same class
+    // O(n)
+    private static byte kindOf(Object[] values){
+        Class<?> type = null;
+        for(Object value : values){
+            if(value == null)
+                continue;
+            if(type == null)
+                type = value.getClass();
+            else if(type != value.getClass())
+                throw new IllegalArgumentException("Mixed element types " + type.getName() + " and " + value.getClass().getName());
+        }
+        if(type == null || type == String.class)
+            return STRING;
+        byte kind = (type == Integer.class) ? INT : (type == Long.class) ? LONG : (type == Double.class) ? DOUBLE : -1;
+        if(kind < 0)
+            throw new IllegalArgumentException("Unsupported element type " + type.getName());
+        for(Object value : values){
+            if(value == null)
+                throw new IllegalArgumentException("null element in a list of " + type.getName());
+        }
+        return kind;
+    }
+    // Write the elements of a list (String, Integer, Long or Double)
+    // O(n)
+    static void write(Object[] values, WritableByteChannel channel) throws IOException{
+        byte kind = kindOf(values);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        // the strings are encoded first, the header holds the length of the body
+        byte[][] encoded = null;
+        long bodyLength = (long) values.length * ((kind == INT) ? 4 : 8);
+        if(kind == STRING){
+            encoded = new byte[values.length][];
+            bodyLength = (long) values.length * 4;
+            for(int i = 0; i < values.length; i++){
+                if(values[i] != null){
+                    encoded[i] = ((String) values[i]).getBytes(StandardCharsets.UTF_8);
+                    bodyLength += encoded[i].length;
+                }
+            }
+        }
+        putHeader(buffer, kind, values.length, bodyLength);
+        for(int i = 0; i < values.length; i++){
+            Object value = values[i];
+            switch(kind){
+                case STRING:
+                    ensureRoom(buffer, 4, channel);
+                    if(encoded[i] == null){
+                        buffer.putInt(-1);
+                    } else {
+                        buffer.putInt(encoded[i].length);
+                        putBytes(buffer, encoded[i], channel);
+                    }
+                    break;
+                case INT:
+                    ensureRoom(buffer, 4, channel);
+                    buffer.putInt((Integer) value);
+                    break;
+                case LONG:
+                    ensureRoom(buffer, 8, channel);
+                    buffer.putLong((Long) value);
+                    break;
+                default:
+                    ensureRoom(buffer, 8, channel);
+                    buffer.putDouble((Double) value);
+            }
+        }
+        flush(buffer, channel);
+    }
+    // Read a snapshot written by write()
+    // O(n)
+    static Object[] read(ReadableByteChannel channel) throws IOException{
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        buffer.flip();
+        require(buffer, HEADER_SIZE, HEADER_SIZE, channel);
+        byte kind = getHeader(buffer);
+        Object[] values = new Object[getCount(buffer)];
+        // bytes of the body left from the read position
+        long owed = getBodyLength(buffer);
+        if(kind != STRING)
+            checkBodyLength(owed, values.length, (kind == INT) ? 4 : 8);
+        for(int i = 0; i < values.length; i++){
+            switch(kind){
+                case STRING:
+                    require(buffer, 4, owed, channel);
+                    int length = buffer.getInt();
+                    owed -= 4;
+                    if(length >= 0){
+                        byte[] encoded = new byte[length];
+                        getBytes(buffer, encoded, owed, channel);
+                        owed -= length;
+                        values[i] = new String(encoded, StandardCharsets.UTF_8);
+                    }
+                    break;
+                case INT:
+                    require(buffer, 4, owed, channel);
+                    values[i] = buffer.getInt();
+                    owed -= 4;
+                    break;
+                case LONG:
+                    require(buffer, 8, owed, channel);
+                    values[i] = buffer.getLong();
+                    owed -= 8;
+                    break;
+                case DOUBLE:
+                    require(buffer, 8, owed, channel);
+                    values[i] = buffer.getDouble();
+                    owed -= 8;
+                    break;
+                default:
+                    throw new IOException("Unknown element kind " + kind);
+            }
+        }
+        if(owed != 0)
+            throw new IOException("Corrupted snapshot, " + owed + " bytes of the body were not read");
+        return values;
+    }
+    // Bulk versions for the primitive lists, the values are copied a block at a time
+    // O(n)
+    static void writeInts(int[] values, int count, WritableByteChannel channel) throws IOException{
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        putHeader(buffer, INT, count, (long) count * 4);
+        for(int done = 0; done < count; ){
+            ensureRoom(buffer, 4, channel);
+            int n = Math.min(count - done, buffer.remaining() / 4);
+            buffer.asIntBuffer().put(values, done, n);
+            buffer.position(buffer.position() + n * 4);
+            done += n;
+        }
+        flush(buffer, channel);
+    }
+    static int[] readInts(ReadableByteChannel channel) throws IOException{
+        ByteBuffer buffer = readHeader(channel, INT);
+        int[] values = new int[getCount(buffer)];
+        checkBodyLength(getBodyLength(buffer), values.length, 4);
+        for(int done = 0; done < values.length; ){
+            require(buffer, 4, (long) (values.length - done) * 4, channel);
+            int n = Math.min(values.length - done, buffer.remaining() / 4);
+            buffer.asIntBuffer().get(values, done, n);
+            buffer.position(buffer.position() + n * 4);
+            done += n;
+        }
+        return values;
+    }
+    static void writeLongs(long[] values, int count, WritableByteChannel channel) throws IOException{
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        putHeader(buffer, LONG, count, (long) count * 8);
+        for(int done = 0; done < count; ){
+            ensureRoom(buffer, 8, channel);
+            int n = Math.min(count - done, buffer.remaining() / 8);
+            buffer.asLongBuffer().put(values, done, n);
+            buffer.position(buffer.position() + n * 8);
+            done += n;
+        }
+        flush(buffer, channel);
+    }
+    static long[] readLongs(ReadableByteChannel channel) throws IOException{
+        ByteBuffer buffer = readHeader(channel, LONG);
+        long[] values = new long[getCount(buffer)];
+        checkBodyLength(getBodyLength(buffer), values.length, 8);
+        for(int done = 0; done < values.length; ){
+            require(buffer, 8, (long) (values.length - done) * 8, channel);
+            int n = Math.min(values.length - done, buffer.remaining() / 8);
+            buffer.asLongBuffer().get(values, done, n);
+            buffer.position(buffer.position() + n * 8);
+            done += n;
+        }
+        return values;
+    }
+    static void writeDoubles(double[] values, int count, WritableByteChannel channel) throws IOException{
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        putHeader(buffer, DOUBLE, count, (long) count * 8);
+        for(int done = 0; done < count; ){
+            ensureRoom(buffer, 8, channel);
+            int n = Math.min(count - done, buffer.remaining() / 8);
+            buffer.asDoubleBuffer().put(values, done, n);
+            buffer.position(buffer.position() + n * 8);
+            done += n;
+        }
+        flush(buffer, channel);
+    }
+    static double[] readDoubles(ReadableByteChannel channel) throws IOException{
+        ByteBuffer buffer = readHeader(channel, DOUBLE);
+        double[] values = new double[getCount(buffer)];
+        checkBodyLength(getBodyLength(buffer), values.length, 8);
+        for(int done = 0; done < values.length; ){
+            require(buffer, 8, (long) (values.length - done) * 8, channel);
+            int n = Math.min(values.length - done, buffer.remaining() / 8);
+            buffer.asDoubleBuffer().get(values, done, n);
+            buffer.position(buffer.position() + n * 8);
+            done += n;
+        }
+        return values;
+    }
+    // O(1)
+    private static void putHeader(ByteBuffer buffer, byte kind, int count, long bodyLength){
+        buffer.putInt(MAGIC).put(VERSION).put(kind).putInt(count).putLong(bodyLength);
+    }
+    // Read the header and check the element kind, the buffer is left on the element count and the body length
+    // O(1)
+    private static ByteBuffer readHeader(ReadableByteChannel channel, byte expected) throws IOException{
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+        buffer.flip();
+        require(buffer, HEADER_SIZE, HEADER_SIZE, channel);
+        byte kind = getHeader(buffer);
+        if(kind != expected)
+            throw new IOException("Snapshot holds element kind " + kind + ", expected " + expected);
+        return buffer;
+    }
+    // Check magic and version, return the element kind
+    // O(1)
+    private static byte getHeader(ByteBuffer buffer) throws IOException{
+        if(buffer.getInt() != MAGIC)
+            throw new IOException("Not a list snapshot");
+        byte version = buffer.get();
+        if(version != VERSION)
+            throw new IOException("Unsupported snapshot version " + version);
+        return buffer.get();
+    }
+    // O(1)
+    private static int getCount(ByteBuffer buffer) throws IOException{
+        int count = buffer.getInt();
+        if(count < 0)
+            throw new IOException("Corrupted snapshot, negative element count");
+        return count;
+    }
+    // O(1)
+    private static long getBodyLength(ByteBuffer buffer) throws IOException{
+        long bodyLength = buffer.getLong();
+        if(bodyLength < 0)
+            throw new IOException("Corrupted snapshot, negative body length");
+        return bodyLength;
+    }
+    // Check the body length of count primitive values of width bytes each
+    // O(1)
+    private static void checkBodyLength(long bodyLength, int count, int width) throws IOException{
+        if(bodyLength != (long) count * width)
+            throw new IOException("Corrupted snapshot, body of " + bodyLength + " bytes for " + count + " values");
+    }
+    // Write the buffer out if it has fewer than bytes bytes of room left
+    // O(BLOCK_SIZE)
+    private static void ensureRoom(ByteBuffer buffer, int bytes, WritableByteChannel channel) throws IOException{
+        if(buffer.remaining() < bytes)
+            flush(buffer, channel);
+    }
+    // Write and empty the buffer
+    // O(BLOCK_SIZE)
+    private static void flush(ByteBuffer buffer, WritableByteChannel channel) throws IOException{
+        buffer.flip();
+        while(buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+    // Write bytes that may be larger than the buffer
+    // O(length)
+    private static void putBytes(ByteBuffer buffer, byte[] bytes, WritableByteChannel channel) throws IOException{
+        for(int done = 0; done < bytes.length; ){
+            ensureRoom(buffer, 1, channel);
+            int n = Math.min(bytes.length - done, buffer.remaining());
+            buffer.put(bytes, done, n);
+            done += n;
+        }
+    }
+    // Make sure that at least bytes bytes (at most BLOCK_SIZE) are ready to be read
+    // owed is the number of bytes of the snapshot left from the read position, the buffer is filled
+    // up to a whole block of them and no byte after them is read from the channel
+    // O(BLOCK_SIZE)
+    private static void require(ByteBuffer buffer, int bytes, long owed, ReadableByteChannel channel) throws IOException{
+        if(buffer.remaining() >= bytes)
+            return;
+        if(owed < bytes)
+            throw new IOException("Corrupted snapshot, " + bytes + " bytes needed past the end of the body");
+        buffer.compact();
+        buffer.limit((int) Math.min(buffer.capacity(), owed));
+        while(buffer.position() < bytes){
+            if(channel.read(buffer) < 0)
+                throw new EOFException("Truncated list snapshot");
+        }
+        buffer.flip();
+    }
+    // Read bytes that may be larger than the buffer, owed is the number of bytes of the snapshot
+    // left from the read position, the bytes included
+    // O(length)
+    private static void getBytes(ByteBuffer buffer, byte[] bytes, long owed, ReadableByteChannel channel) throws IOException{
+        for(int done = 0; done < bytes.length; ){
+            require(buffer, 1, owed - done, channel);
+            int n = Math.min(bytes.length - done, buffer.remaining());
+            buffer.get(bytes, done, n);
+            done += n;
+        }
+    }
+}
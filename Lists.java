@@ -0,0 +1,285 @@
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+/**
+ * Class Lists
+ * Helper methods shared by the implementations of the interface List
+ * Date of creation: October 18, 2026
+ */
+final class Lists{
+    // No instances
+    private Lists(){
+    }
+    // Visit the first count elements of list in order
+    // Lists marked RandomAccess are walked by index, the others through their iterator
+    // O(count)
+    static <E> void forEach(List<E> list, int count, Consumer<? super E> action){
+        if(list instanceof RandomAccess){
+            for(int i = 0; i < count; i++){
+                action.accept(list.get(i));
+            }
+        } else {
+            Iterator<E> iter = list.iterator();
+            for(int i = 0; i < count && iter.hasNext(); i++){
+                action.accept(iter.next());
+            }
+        }
+    }
+    // Set of the distinct values of list
+    // O(n)
+    static <E> HashSet<E> valueSet(List<E> list){
+        HashSet<E> values = new HashSet<>();
+        forEach(list, list.size(), values::add);
+        return values;
+    }
+    // Number of occurrences of each value of list
+    // O(n)
+    static <E> HashMap<E, Integer> valueCounts(List<E> list){
+        HashMap<E, Integer> counts = new HashMap<>();
+        forEach(list, list.size(), value -> counts.merge(value, 1, Integer::sum));
+        return counts;
+    }
+    // Check a range [fromIndex, toIndex) of a list of the given size
+    // O(1)
+    static void checkRange(int fromIndex, int toIndex, int size){
+        if(fromIndex < 0 || toIndex > size || fromIndex > toIndex)
+            throw new IndexOutOfBoundsException(
+                "Invalid range [" + fromIndex + ", " + toIndex + ") for a list of size " + size);
+    }
+    // Live view of the range [offset, offset + size) of a list, nothing is copied
+    // Reads and writes go to the backing list, clear() removes the whole range with one removeRange
+    // Changes made to the backing list outside of the view leave the view undefined
+    static class SubList<E> implements List<E>{
+        private final List<E> parent;
+        private final int offset;
+        private int size;
+
+        // O(1)
+        SubList(List<E> parent, int fromIndex, int toIndex){
+            this.parent = parent;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+        }
+        // O(1)
+        private void checkIndex(int index){
+            if(index < 0 || index >= size)
+                throw new IndexOutOfBoundsException(
+                    "Index out of bounds. Must be between 0 and " + (size - 1));
+        }
+        // Same cost as add(int) on the backing list
+        public boolean add(E value){
+            return add(size, value);
+        }
+        public boolean add(int index, E value){
+            if(index < 0 || index > size)
+                throw new IndexOutOfBoundsException();
+            parent.add(offset + index, value);
+            size++;
+            return true;
+        }
+        // Same cost as get and set on the backing list
+        public E get(int index){
+            checkIndex(index);
+            return parent.get(offset + index);
+        }
+        public E set(int index, E value){
+            checkIndex(index);
+            return parent.set(offset + index, value);
+        }
+        // O(1)
+        public int size(){
+            return size;
+        }
+        // O(1)
+        public boolean isEmpty(){
+            return size == 0;
+        }
+        // Same cost as removeRange on the backing list
+        public void clear(){
+            removeRange(0, size);
+        }
+        public void removeRange(int fromIndex, int toIndex){
+            checkRange(fromIndex, toIndex, size);
+            parent.removeRange(offset + fromIndex, offset + toIndex);
+            size -= toIndex - fromIndex;
+        }
+        // Same cost as remove(int) on the backing list
+        public boolean remove(int index){
+            checkIndex(index);
+            parent.remove(offset + index);
+            size--;
+            return true;
+        }
+        // O(size)
+        public boolean remove(Object o){
+            int index = indexOf(o);
+            if(index < 0)
+                return false;
+            return remove(index);
+        }
+        // O(size)
+        public boolean contains(Object o){
+            return indexOf(o) >= 0;
+        }
+        // O(size)
+        private int indexOf(Object o){
+            Iterator<E> iter = iterator();
+            for(int i = 0; iter.hasNext(); i++){
+                if(Objects.equals(o, iter.next()))
+                    return i;
+            }
+            return -1;
+        }
+        // O(1)
+        public Iterator<E> iterator(){
+            return new SubListIterator(0);
+        }
+        // O(1)
+        public ListIterator<E> listIterator(){
+            return new SubListIterator(0);
+        }
+        // O(1)
+        public ListIterator<E> listIterator(int index){
+            if(index < 0 || index > size)
+                throw new IndexOutOfBoundsException();
+            return new SubListIterator(index);
+        }
+        // O(size)
+        public Object[] toArray(){
+            Object[] array = new Object[size];
+            for(int i = 0; i < size; i++)
+                array[i] = parent.get(offset + i);
+            return array;
+        }
+        // O(size)
+        public String toString(){
+            StringBuilder output = new StringBuilder("[");
+            for(int i = 0; i < size; i++){
+                if(i > 0)
+                    output.append(' ');
+                output.append(parent.get(offset + i));
+            }
+            return output.append(']').toString();
+        }
+        // Inner class that implements the interface ListIterator<E>
+        // The cursor sits between the element returned by previous() and the one returned by next()
+        // Each step is a get on the backing list, O(1) for ArrayList and for the finger of LinkedList
+        private class SubListIterator implements ListIterator<E>{
+            private int cursor;
+            // index of the element returned by the last next() or previous(), -1 after add() or remove()
+            private int lastReturned = -1;
+            // O(1)
+            SubListIterator(int index){
+                this.cursor = index;
+            }
+            // O(1)
+            public boolean hasNext(){
+                return cursor < size;
+            }
+            // O(1)
+            public E next(){
+                if(cursor >= size)
+                    throw new NoSuchElementException();
+                lastReturned = cursor;
+                return parent.get(offset + cursor++);
+            }
+            // O(1)
+            public boolean hasPrevious(){
+                return cursor > 0;
+            }
+            // O(1)
+            public E previous(){
+                if(cursor <= 0)
+                    throw new NoSuchElementException();
+                lastReturned = --cursor;
+                return parent.get(offset + cursor);
+            }
+            // O(1)
+            public int nextIndex(){
+                return cursor;
+            }
+            // O(1)
+            public int previousIndex(){
+                return cursor - 1;
+            }
+            // Insert value before the cursor, same cost as add(int) on the backing list
+            public void add(E value){
+                parent.add(offset + cursor++, value);
+                size++;
+                lastReturned = -1;
+            }
+            // Remove the element returned by the last next() or previous(), same cost as remove(int) on the backing list
+            public void remove(){
+                if(lastReturned < 0)
+                    throw new IllegalStateException();
+                parent.remove(offset + lastReturned);
+                size--;
+                if(lastReturned < cursor)
+                    cursor--;
+                lastReturned = -1;
+            }
+            // Replace the element returned by the last next() or previous(), same cost as set on the backing list
+            public void set(E value){
+                if(lastReturned < 0)
+                    throw new IllegalStateException();
+                parent.set(offset + lastReturned, value);
+            }
+        }
+    }
+    // View of a RandomAccess list, so that the bulk operations also walk it by index
+    static final class RandomAccessSubList<E> extends SubList<E> implements RandomAccess{
+        // O(1)
+        RandomAccessSubList(List<E> parent, int fromIndex, int toIndex){
+            super(parent, fromIndex, toIndex);
+        }
+    }
+    // Spliterator over the index range [origin, fence) of a RandomAccess list, splits in halves
+    static final class IndexSpliterator<E> implements Spliterator<E>{
+        private final List<E> list;
+        private int origin;
+        private final int fence;
+
+        // O(1)
+        IndexSpliterator(List<E> list, int origin, int fence){
+            this.list = list;
+            this.origin = origin;
+            this.fence = fence;
+        }
+        // O(1)
+        public Spliterator<E> trySplit(){
+            int middle = (origin + fence) >>> 1;
+            if(middle <= origin)
+                return null;
+            Spliterator<E> prefix = new IndexSpliterator<>(list, origin, middle);
+            origin = middle;
+            return prefix;
+        }
+        // O(1)
+        public boolean tryAdvance(Consumer<? super E> action){
+            if(origin >= fence)
+                return false;
+            action.accept(list.get(origin++));
+            return true;
+        }
+        // O(fence - origin)
+        public void forEachRemaining(Consumer<? super E> action){
+            for(int i = origin; i < fence; i++)
+                action.accept(list.get(i));
+            origin = fence;
+        }
+        // O(1)
+        public long estimateSize(){
+            return fence - origin;
+        }
+        // O(1)
+        public int characteristics(){
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+    }
+}
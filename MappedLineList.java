@@ -0,0 +1,292 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+/**
+ * Class MappedLineList
+ * Read-only list of the lines of a text file
+ * The file is memory-mapped and indexed by line offsets in one pass, lines are decoded (UTF-8) only when accessed
+ * Lines end with "\n" or "\r\n", a final line separator does not start an empty line
+ * Date of creation: October 18, 2026
+ */
+public class MappedLineList implements RandomAccess, List<String>{
+    // Size of a mapped segment, a MappedByteBuffer cannot exceed 2 GB
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    // Size of the chunks scanned in parallel, a divisor of SEGMENT_SIZE
+    private static final int CHUNK_SIZE = 1 << 23;
+    // Files smaller than this are scanned on the calling thread
+    private static final long PARALLEL_THRESHOLD = 4L * CHUNK_SIZE;
+    // Size of the block copied out of the mapping while scanning
+    private static final int BLOCK_SIZE = 1 << 16;
+    // Data members
+    private final MappedByteBuffer[] segments;
+    private final long fileSize;
+    private final long[] lineStarts;
+    private final int size;
+
+    // Constructor, see open()
+    // O(1)
+    private MappedLineList(MappedByteBuffer[] segments, long fileSize, long[] lineStarts){
+        this.segments = segments;
+        this.fileSize = fileSize;
+        this.lineStarts = lineStarts;
+        this.size = lineStarts.length;
+    }
+    // Map a file and index its lines, the scan runs in parallel for large files
+    // O(file size)
+    public static MappedLineList open(String filename) throws IOException{
+        return open(Paths.get(filename));
+    }
+    public static MappedLineList open(Path path) throws IOException{
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+            long fileSize = channel.size();
+            int count = (int) ((fileSize + SEGMENT_SIZE - 1) >> SEGMENT_SHIFT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for(int i = 0; i < count; i++){
+                long start = (long) i << SEGMENT_SHIFT;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, fileSize - start));
+            }
+            // the mapping stays valid after the channel is closed
+            return new MappedLineList(segments, fileSize, indexLines(segments, fileSize));
+        }
+    }
+    // Build the table of line starts
+    // O(file size)
+    private static long[] indexLines(MappedByteBuffer[] segments, long fileSize){
+        if(fileSize == 0)
+            return new long[0];
+        int chunks = (int) ((fileSize + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        IntStream range = IntStream.range(0, chunks);
+        if(fileSize >= PARALLEL_THRESHOLD)
+            range = range.parallel();
+        LongArrayList[] found = range.mapToObj(c -> scanChunk(segments, fileSize, c))
+                                     .toArray(LongArrayList[]::new);
+        int lines = 1;
+        for(LongArrayList starts : found)
+            lines += starts.size();
+        long[] lineStarts = new long[lines];
+        int position = 1;
+        for(LongArrayList starts : found){
+            long[] values = starts.toLongArray();
+            System.arraycopy(values, 0, lineStarts, position, values.length);
+            position += values.length;
+        }
+        return lineStarts;
+    }
+    // Offsets of the lines starting inside chunk c (after a '\n' of the chunk)
+    // O(CHUNK_SIZE)
+    private static LongArrayList scanChunk(MappedByteBuffer[] segments, long fileSize, int c){
+        long chunkStart = (long) c * CHUNK_SIZE;
+        int length = (int) Math.min(CHUNK_SIZE, fileSize - chunkStart);
+        MappedByteBuffer segment = segments[(int) (chunkStart >> SEGMENT_SHIFT)];
+        int offset = (int) (chunkStart & (SEGMENT_SIZE - 1));
+        LongArrayList starts = new LongArrayList();
+        byte[] block = new byte[Math.min(BLOCK_SIZE, length)];
+        for(int done = 0; done < length; done += block.length){
+            int count = Math.min(block.length, length - done);
+            segment.get(offset + done, block, 0, count);
+            for(int i = 0; i < count; i++){
+                if(block[i] == '\n'){
+                    long next = chunkStart + done + i + 1;
+                    if(next < fileSize)
+                        starts.addLong(next);
+                }
+            }
+        }
+        return starts;
+    }
+    // Copy the lines into list, growing it once beforehand when it supports it
+    // O(n)
+    public void copyInto(List<String> list){
+        if(list instanceof ArrayList)
+            ((ArrayList<String>) list).ensureCapacity(list.size() + size);
+        list.addAll(this);
+    }
+    // Getter, decodes the line
+    // O(line length)
+    public String get(int index){
+        checkIndex(index);
+        return new String(lineBytes(index), StandardCharsets.UTF_8);
+    }
+    // Offset just past the last byte of a line, its separator excluded
+    // O(1)
+    private long lineEnd(int index){
+        long start = lineStarts[index];
+        long end = (index + 1 < size) ? lineStarts[index + 1] - 1 : fileSize;
+        if(end > start && byteAt(end - 1) == '\n')
+            end--;
+        if(end > start && byteAt(end - 1) == '\r')
+            end--;
+        return end;
+    }
+    // Raw bytes of a line without its separator
+    // O(line length)
+    private byte[] lineBytes(int index){
+        long start = lineStarts[index];
+        byte[] line = new byte[(int) (lineEnd(index) - start)];
+        int copied = 0;
+        while(copied < line.length){
+            long position = start + copied;
+            MappedByteBuffer segment = segments[(int) (position >> SEGMENT_SHIFT)];
+            int offset = (int) (position & (SEGMENT_SIZE - 1));
+            int count = Math.min(line.length - copied, segment.limit() - offset);
+            segment.get(offset, line, copied, count);
+            copied += count;
+        }
+        return line;
+    }
+    // O(1)
+    private byte byteAt(long position){
+        return segments[(int) (position >> SEGMENT_SHIFT)].get((int) (position & (SEGMENT_SIZE - 1)));
+    }
+    // Search for a line by comparing raw bytes, no line is decoded
+    // O(file size)
+    public boolean contains(Object o){
+        if(!(o instanceof String))
+            return false;
+        byte[] target = ((String) o).getBytes(StandardCharsets.UTF_8);
+        for(int i = 0; i < size; i++){
+            if(lineEnd(i) - lineStarts[i] == target.length && matches(lineStarts[i], target))
+                return true;
+        }
+        return false;
+    }
+    // Compare the bytes at start with target
+    // O(length)
+    private boolean matches(long start, byte[] target){
+        for(int k = 0; k < target.length; k++){
+            if(byteAt(start + k) != target[k])
+                return false;
+        }
+        return true;
+    }
+    // Size of the list
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(
+                "Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    // The list is read-only
+    public boolean add(String value){
+        throw new UnsupportedOperationException();
+    }
+    public boolean add(int index, String value){
+        throw new UnsupportedOperationException();
+    }
+    public String set(int index, String value){
+        throw new UnsupportedOperationException();
+    }
+    public void clear(){
+        throw new UnsupportedOperationException();
+    }
+    public boolean remove(Object o){
+        throw new UnsupportedOperationException();
+    }
+    public boolean remove(int index){
+        throw new UnsupportedOperationException();
+    }
+    public boolean addAll(List<String> otherList){
+        throw new UnsupportedOperationException();
+    }
+    public boolean removeAll(List<String> otherList){
+        throw new UnsupportedOperationException();
+    }
+    public boolean retainAll(List<String> otherList){
+        throw new UnsupportedOperationException();
+    }
+    // Iterator for the list
+    // O(1)
+    public Iterator<String> iterator(){
+        return new LineIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<String> listIterator(){
+        return new LineIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<String> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        return new LineIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<String>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class LineIterator implements ListIterator<String>{
+        private int cursor;
+        // O(1)
+        public LineIterator(int index){
+            this.cursor = index;
+        }
+        // O(1)
+        public boolean hasNext(){
+            return cursor < size;
+        }
+        // O(line length)
+        public String next(){
+            if(cursor >= size)
+                throw new NoSuchElementException();
+            return get(cursor++);
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return cursor > 0;
+        }
+        // O(line length)
+        public String previous(){
+            if(cursor <= 0)
+                throw new NoSuchElementException();
+            return get(--cursor);
+        }
+        // O(1)
+        public int nextIndex(){
+            return cursor;
+        }
+        // O(1)
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        // O(1)
+        public void add(String value){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void set(String value){
+            throw new UnsupportedOperationException();
+        }
+    }
+    // Method to get the lines as an array of type Object
+    // O(file size)
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        for(int i = 0; i < size; i++){
+            array[i] = get(i);
+        }
+        return array;
+    }
+}
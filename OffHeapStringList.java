@@ -0,0 +1,427 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+/**
+ * Class OffHeapStringList
+ * List of strings kept outside the Java heap as UTF-8 bytes in a direct ByteBuffer
+ * Element i is the byte range [starts[i], starts[i] + lengths[i]) of the buffer, null has length -1
+ * Bytes are only appended; set and remove leave garbage that is compacted once it outweighs the live bytes
+ * removeAll and retainAll encode the other list once and compare raw bytes, no element is decoded
+ * Date of creation: October 18, 2026
+ */
+public class OffHeapStringList implements Cloneable, RandomAccess, List<String>{
+    // Minimum number of garbage bytes before a compaction is considered
+    private static final int MIN_COMPACT_BYTES = 1 << 16;
+    // Data members
+    private ByteBuffer bytes;
+    private int used;
+    private int garbage;
+    private int[] starts;
+    private int[] lengths;
+    private int size;
+    // Constructors
+    // O(1)
+    public OffHeapStringList(){
+        this(10, 1024);
+    }
+    public OffHeapStringList(int capacity, int byteCapacity){
+        bytes = ByteBuffer.allocateDirect(byteCapacity);
+        starts = new int[capacity];
+        lengths = new int[capacity];
+        used = garbage = size = 0;
+    }
+    // Adding an item to the list (2 methods)
+    // O(length) amortized - O(n) for an insertion in the middle
+    public boolean add(String item){
+        return add(size, item);
+    }
+    public boolean add(int index, String item){
+        if(index > size || index < 0)
+            throw new ArrayIndexOutOfBoundsException();
+        if(size == starts.length){
+            int newCap = Math.max(size + 1, (int) (size * 1.5));
+            starts = Arrays.copyOf(starts, newCap);
+            lengths = Arrays.copyOf(lengths, newCap);
+        }
+        System.arraycopy(starts, index, starts, index + 1, size - index);
+        System.arraycopy(lengths, index, lengths, index + 1, size - index);
+        size++;
+        store(index, item);
+        return true;
+    }
+    // Getter and Setter, decode the UTF-8 bytes on demand
+    // O(length)
+    public String get(int index){
+        checkIndex(index);
+        return decode(index);
+    }
+    public String set(int index, String item){
+        checkIndex(index);
+        String oldItem = decode(index);
+        release(index);
+        store(index, item);
+        compactIfNeeded();
+        return oldItem;
+    }
+    // Size of the list
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Clear the list, the off-heap buffer is kept for reuse
+    // O(1)
+    public void clear(){
+        used = garbage = size = 0;
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // Removing an object from the list
+    // O(total bytes)
+    public boolean remove(Object o){
+        int index = indexOf(o);
+        if(index < 0)
+            return false;
+        return remove(index);
+    }
+    // Removing the item at index from the list
+    // O(n)
+    public boolean remove(int index){
+        checkIndex(index);
+        release(index);
+        System.arraycopy(starts, index + 1, starts, index, size - index - 1);
+        System.arraycopy(lengths, index + 1, lengths, index, size - index - 1);
+        size--;
+        compactIfNeeded();
+        return true;
+    }
+    // Search for a value in the list by comparing raw bytes, no string is decoded
+    // O(total bytes)
+    public boolean contains(Object o){
+        return indexOf(o) >= 0;
+    }
+    // Index of the first element equal to o, -1 if none
+    // O(total bytes)
+    public int indexOf(Object o){
+        if(o == null){
+            for(int i = 0; i < size; i++){
+                if(lengths[i] < 0)
+                    return i;
+            }
+            return -1;
+        }
+        if(!(o instanceof String))
+            return -1;
+        byte[] target = ((String) o).getBytes(StandardCharsets.UTF_8);
+        for(int i = 0; i < size; i++){
+            if(lengths[i] == target.length && matches(starts[i], target)){
+                return i;
+            }
+        }
+        return -1;
+    }
+    // Compare the bytes at start with target
+    // O(length)
+    private boolean matches(int start, byte[] target){
+        for(int k = 0; k < target.length; k++){
+            if(bytes.get(start + k) != target[k]){
+                return false;
+            }
+        }
+        return true;
+    }
+    // Hash of the bytes of element index, the same as Arrays.hashCode of its encoding
+    // O(length)
+    private int hash(int index){
+        int h = 1;
+        for(int k = 0; k < lengths[index]; k++)
+            h = 31 * h + bytes.get(starts[index] + k);
+        return h;
+    }
+    // Encoded value of another list, with the number of times it occurs there
+    private static class Encoded{
+        private final byte[] encoded;
+        private int count;
+        // O(1)
+        Encoded(byte[] encoded){
+            this.encoded = encoded;
+        }
+    }
+    // Encode the values of otherList once, grouped by the hash of their bytes, null goes under hash 0
+    // O(total bytes of otherList)
+    private static HashMap<Integer, ArrayList<Encoded>> encodeAll(List<String> otherList){
+        HashMap<Integer, ArrayList<Encoded>> values = new HashMap<>();
+        Iterator<String> iter = otherList.iterator();
+        while(iter.hasNext()){
+            String value = iter.next();
+            byte[] encoded = (value == null) ? null : value.getBytes(StandardCharsets.UTF_8);
+            ArrayList<Encoded> bucket = values.computeIfAbsent((encoded == null) ? 0 : Arrays.hashCode(encoded), h -> new ArrayList<>());
+            Encoded match = null;
+            for(int k = 0; k < bucket.size() && match == null; k++){
+                if(Arrays.equals(bucket.get(k).encoded, encoded))
+                    match = bucket.get(k);
+            }
+            if(match == null){
+                match = new Encoded(encoded);
+                bucket.add(match);
+            }
+            match.count++;
+        }
+        return values;
+    }
+    // Encoded value equal to element index, null if none, the bytes are compared in the buffer
+    // O(length) expected
+    private Encoded find(HashMap<Integer, ArrayList<Encoded>> values, int index){
+        int length = lengths[index];
+        ArrayList<Encoded> bucket = values.get((length < 0) ? 0 : hash(index));
+        if(bucket == null)
+            return null;
+        for(int k = 0; k < bucket.size(); k++){
+            byte[] encoded = bucket.get(k).encoded;
+            if((encoded == null) ? length < 0 : (encoded.length == length && matches(starts[index], encoded)))
+                return bucket.get(k);
+        }
+        return null;
+    }
+    // Removing elements of otherList
+    // Each element of otherList removes at most one matching element of this list
+    // O(total bytes)
+    public boolean removeAll(List<String> otherList){
+        HashMap<Integer, ArrayList<Encoded>> values = encodeAll(otherList);
+        return keepIf(i -> {
+            Encoded match = find(values, i);
+            if(match == null || match.count == 0)
+                return true;
+            match.count--;
+            return false;
+        });
+    }
+    // Retaining only the elements from otherList
+    // O(total bytes)
+    public boolean retainAll(List<String> otherList){
+        HashMap<Integer, ArrayList<Encoded>> values = encodeAll(otherList);
+        return keepIf(i -> find(values, i) != null);
+    }
+    // Removing the elements that match filter, each element is decoded only to be tested
+    // O(total bytes)
+    public boolean removeIf(Predicate<? super String> filter){
+        return keepIf(i -> !filter.test(decode(i)));
+    }
+    // Keep the elements whose index passes keep in a single compacting pass over the index arrays,
+    // the bytes of the others become garbage
+    // if keep throws an exception, the elements not tested yet are kept
+    // O(n) calls to keep
+    private boolean keepIf(IntPredicate keep){
+        int lastSize = size;
+        int kept = 0;
+        int i = 0;
+        try {
+            for(; i < size; i++){
+                if(keep.test(i)){
+                    starts[kept] = starts[i];
+                    lengths[kept++] = lengths[i];
+                } else {
+                    release(i);
+                }
+            }
+        } finally {
+            System.arraycopy(starts, i, starts, kept, size - i);
+            System.arraycopy(lengths, i, lengths, kept, size - i);
+            size = kept + size - i;
+            compactIfNeeded();
+        }
+        return lastSize != size;
+    }
+    // Encode item at the end of the buffer and point element index to it
+    // O(length) amortized
+    private void store(int index, String item){
+        if(item == null){
+            starts[index] = 0;
+            lengths[index] = -1;
+            return;
+        }
+        byte[] encoded = item.getBytes(StandardCharsets.UTF_8);
+        ensureByteCapacity(used + encoded.length);
+        bytes.put(used, encoded);
+        starts[index] = used;
+        lengths[index] = encoded.length;
+        used += encoded.length;
+    }
+    // Decode element index
+    // O(length)
+    private String decode(int index){
+        int length = lengths[index];
+        if(length < 0)
+            return null;
+        byte[] encoded = new byte[length];
+        bytes.get(starts[index], encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+    // Count the bytes of element index as garbage
+    // O(1)
+    private void release(int index){
+        if(lengths[index] > 0)
+            garbage += lengths[index];
+    }
+    // Grow the off-heap buffer if needed
+    // O(total bytes)
+    private void ensureByteCapacity(int minCapacity){
+        if(minCapacity > bytes.capacity()){
+            int newCap = Math.max(minCapacity, (int) Math.min(Integer.MAX_VALUE, bytes.capacity() * 2L));
+            ByteBuffer newBytes = ByteBuffer.allocateDirect(newCap);
+            newBytes.put(0, bytes, 0, used);
+            bytes = newBytes;
+        }
+    }
+    // Copy the live bytes to a fresh buffer in list order once garbage dominates
+    // O(total bytes)
+    private void compactIfNeeded(){
+        if(garbage < MIN_COMPACT_BYTES || garbage < used / 2)
+            return;
+        ByteBuffer newBytes = ByteBuffer.allocateDirect(Math.max(1024, (used - garbage) * 2));
+        int position = 0;
+        for(int i = 0; i < size; i++){
+            if(lengths[i] > 0){
+                newBytes.put(position, bytes, starts[i], lengths[i]);
+                starts[i] = position;
+                position += lengths[i];
+            }
+        }
+        bytes = newBytes;
+        used = position;
+        garbage = 0;
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException(
+                "Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    // toString() method
+    // O(total bytes)
+    public String toString(){
+        StringBuilder output = new StringBuilder("[");
+        for(int i = 0; i < size; i++){
+            if(i > 0)
+                output.append(' ');
+            output.append(decode(i));
+        }
+        return output.append(']').toString();
+    }
+    // Iterator for the list
+    // O(1)
+    public Iterator<String> iterator(){
+        return new OffHeapListIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<String> listIterator(){
+        return new OffHeapListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<String> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new OffHeapListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<String>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class OffHeapListIterator implements ListIterator<String>{
+        private int cursor;
+        // index of the element returned by the last next() or previous(), -1 after add() or remove()
+        private int lastReturned = -1;
+        // O(1)
+        public OffHeapListIterator(int index){
+            this.cursor = index;
+        }
+        // O(1)
+        public boolean hasNext(){
+            return cursor < size;
+        }
+        // O(length)
+        public String next(){
+            if(cursor >= size)
+                throw new NoSuchElementException();
+            lastReturned = cursor;
+            return decode(cursor++);
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return cursor > 0;
+        }
+        // O(length)
+        public String previous(){
+            if(cursor <= 0)
+                throw new NoSuchElementException();
+            lastReturned = --cursor;
+            return decode(cursor);
+        }
+        // O(1)
+        public int nextIndex(){
+            return cursor;
+        }
+        // O(1)
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        // Insert value before the cursor
+        // O(n)
+        public void add(String value){
+            OffHeapStringList.this.add(cursor++, value);
+            lastReturned = -1;
+        }
+        // Remove the element returned by the last next() or previous()
+        // O(n)
+        public void remove(){
+            if(lastReturned < 0)
+                throw new IllegalStateException();
+            OffHeapStringList.this.remove(lastReturned);
+            if(lastReturned < cursor)
+                cursor--;
+            lastReturned = -1;
+        }
+        // Replace the element returned by the last next() or previous()
+        // O(length)
+        public void set(String value){
+            if(lastReturned < 0)
+                throw new IllegalStateException();
+            OffHeapStringList.this.set(lastReturned, value);
+        }
+    }
+    // Clone method (deep copy), the copy gets its own compacted buffer
+    // O(total bytes)
+    public Object clone(){
+        OffHeapStringList copy = new OffHeapStringList(Math.max(size, 1), Math.max(used - garbage, 1));
+        for(int i = 0; i < size; i++){
+            int length = lengths[i];
+            copy.starts[i] = copy.used;
+            copy.lengths[i] = length;
+            if(length > 0){
+                copy.bytes.put(copy.used, bytes, starts[i], length);
+                copy.used += length;
+            }
+        }
+        copy.size = size;
+        return copy;
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(total bytes)
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        for(int i = 0; i < size; i++){
+            array[i] = decode(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,637 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+/**
+ * Class PersistentVector
+ * Immutable list stored in a relaxed radix balanced tree (RRB-tree) of 32-way nodes, plus a tail
+ * leaf holding the last elements
+ * appended, updated, concat and slice return a new vector that shares all the unchanged nodes with
+ * this one, so keeping older versions costs only the nodes on the changed paths
+ * A node built by concat or slice may be relaxed: it keeps a table of the cumulative sizes of its
+ * children and the child holding an index is found from its radix guess with a short forward scan
+ * The methods of List that would change the list throw UnsupportedOperationException
+ * Date of creation: October 18, 2026
+ */
+public class PersistentVector<E> implements RandomAccess, List<E>{
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    // Extra nodes allowed in a level by concat before it redistributes their slots
+    private static final int EXTRAS = 2;
+    private static final Object[] EMPTY = new Object[0];
+    // Data members
+    // Tree of the first size - tail.length elements, null if they are all in the tail
+    private final Node root;
+    // Shift of the root: its children hold up to 1 << shift elements each
+    private final int shift;
+    private final Object[] tail;
+    private final int size;
+    // Inner class Node
+    // children are leaves (Object[] of elements) when shift is BITS and nodes otherwise
+    private static final class Node{
+        final Object[] children;
+        // sizes[i] = number of elements in children 0 to i, null if the node is balanced:
+        // every child but the last is full and the last child is balanced
+        final int[] sizes;
+
+        // O(1)
+        Node(Object[] children, int[] sizes){
+            this.children = children;
+            this.sizes = sizes;
+        }
+    }
+    // Constructors
+    // O(1)
+    public PersistentVector(){
+        this(null, BITS, EMPTY, 0);
+    }
+    private PersistentVector(Node root, int shift, Object[] tail, int size){
+        this.root = root;
+        this.shift = shift;
+        this.tail = tail;
+        this.size = size;
+    }
+    // Vector of the elements of list, leaves are filled directly
+    // O(n)
+    public static <E> PersistentVector<E> of(List<E> list){
+        Object[] values = list.toArray();
+        PersistentVector<E> vector = new PersistentVector<>();
+        int i = 0;
+        for(; values.length - i > WIDTH; i += WIDTH)
+            vector = vector.withLeaf(Arrays.copyOfRange(values, i, i + WIDTH), EMPTY);
+        return new PersistentVector<>(vector.root, vector.shift,
+            Arrays.copyOfRange(values, i, values.length), values.length);
+    }
+
+    // Elements of the vector that are in the tree
+    // O(1)
+    private int treeSize(){
+        return size - tail.length;
+    }
+    // Number of elements under a leaf or a node
+    // O(1) for a leaf or a relaxed node - O(log n) for a balanced node
+    private static int sizeOf(Object node, int shift){
+        if(shift == 0)
+            return ((Object[]) node).length;
+        Node n = (Node) node;
+        int last = n.children.length - 1;
+        if(n.sizes != null)
+            return n.sizes[last];
+        return (last << shift) + sizeOf(n.children[last], shift - BITS);
+    }
+    // Number of elements in children 0 to child of a node holding size elements
+    // O(1)
+    private static int cumulative(Node node, int shift, int size, int child){
+        if(node.sizes != null)
+            return node.sizes[child];
+        return (child == node.children.length - 1) ? size : (child + 1) << shift;
+    }
+    // Child of a node holding the element at a relative index
+    // O(1) for a balanced node - O(1) expected for a relaxed node
+    private static int childIndex(Node node, int shift, int index){
+        int child = index >>> shift;
+        if(node.sizes != null){
+            while(node.sizes[child] <= index)
+                child++;
+        }
+        return child;
+    }
+    // Check that a leaf or a node can be indexed by radix from its parent
+    // O(1)
+    private static boolean isBalanced(Object node, int shift){
+        return shift == 0 || ((Node) node).sizes == null;
+    }
+    // Node over children, balanced if it can be
+    // O(WIDTH log n)
+    private static Node node(Object[] children, int shift){
+        int[] sizes = new int[children.length];
+        boolean balanced = isBalanced(children[children.length - 1], shift - BITS);
+        int total = 0;
+        for(int i = 0; i < children.length; i++){
+            int childSize = sizeOf(children[i], shift - BITS);
+            if(i < children.length - 1 && childSize != 1 << shift)
+                balanced = false;
+            total += childSize;
+            sizes[i] = total;
+        }
+        return new Node(children, balanced ? null : sizes);
+    }
+    // Size table of a node, built from the radix layout if the node is balanced
+    // O(WIDTH)
+    private static int[] sizesOf(Node node, int shift, int size){
+        if(node.sizes != null)
+            return node.sizes.clone();
+        int[] sizes = new int[node.children.length];
+        for(int i = 0; i < sizes.length; i++)
+            sizes[i] = cumulative(node, shift, size, i);
+        return sizes;
+    }
+    // Path from a node at shift down to leaf, one child per level
+    // O(log n)
+    private static Object path(Object[] leaf, int shift){
+        return (shift == 0) ? leaf : new Node(new Object[]{path(leaf, shift - BITS)}, null);
+    }
+
+    // Getting the item from the list
+    // O(log32 n) - O(1) for the last 32 elements
+    public E get(int index){
+        checkIndex(index);
+        int treeSize = treeSize();
+        if(index >= treeSize)
+            return (E) tail[index - treeSize];
+        Object node = root;
+        for(int level = shift; level > 0; level -= BITS){
+            Node n = (Node) node;
+            int child = childIndex(n, level, index);
+            index -= (child == 0) ? 0 : (n.sizes == null) ? child << level : n.sizes[child - 1];
+            node = n.children[child];
+        }
+        return (E) ((Object[]) node)[index];
+    }
+    // New vector with value at index, the nodes off the path to index are shared
+    // O(log32 n) - O(1) for the last 32 elements
+    public PersistentVector<E> updated(int index, E value){
+        checkIndex(index);
+        int treeSize = treeSize();
+        if(index >= treeSize){
+            Object[] newTail = tail.clone();
+            newTail[index - treeSize] = value;
+            return new PersistentVector<>(root, shift, newTail, size);
+        }
+        return new PersistentVector<>((Node) update(root, shift, index, value), shift, tail, size);
+    }
+    // Copy of the path to index with value stored in the leaf
+    // O(log32 n)
+    private static Object update(Object node, int shift, int index, Object value){
+        if(shift == 0){
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = value;
+            return leaf;
+        }
+        Node n = (Node) node;
+        int child = childIndex(n, shift, index);
+        int before = (child == 0) ? 0 : (n.sizes == null) ? child << shift : n.sizes[child - 1];
+        Object[] children = n.children.clone();
+        children[child] = update(children[child], shift - BITS, index - before, value);
+        return new Node(children, n.sizes);
+    }
+    // New vector with value added at the end
+    // O(1) amortized - a full tail is pushed into the tree in O(log32 n)
+    public PersistentVector<E> appended(E value){
+        if(tail.length < WIDTH){
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = value;
+            return new PersistentVector<>(root, shift, newTail, size + 1);
+        }
+        return withLeaf(tail, new Object[]{value});
+    }
+    // New vector with leaf pushed at the end of the tree and newTail as its tail
+    // O(log32 n)
+    private PersistentVector<E> withLeaf(Object[] leaf, Object[] newTail){
+        int treeSize = treeSize();
+        int newSize = treeSize + leaf.length + newTail.length;
+        if(root == null)
+            return new PersistentVector<>(new Node(new Object[]{leaf}, null), BITS, newTail, newSize);
+        Node newRoot = pushLeaf(root, shift, treeSize, leaf);
+        if(newRoot != null)
+            return new PersistentVector<>(newRoot, shift, newTail, newSize);
+        // the tree is full up to its root, a new level is added
+        boolean balanced = root.sizes == null && (long) treeSize == 1L << (shift + BITS);
+        newRoot = new Node(new Object[]{root, path(leaf, shift)},
+            balanced ? null : new int[]{treeSize, treeSize + leaf.length});
+        return new PersistentVector<>(newRoot, shift + BITS, newTail, newSize);
+    }
+    // Copy of the right edge of a node holding size elements with leaf added after its last leaf
+    // Returns null if the node has no room left
+    // O(log32 n)
+    private static Node pushLeaf(Node node, int shift, int size, Object[] leaf){
+        int last = node.children.length - 1;
+        int lastSize = cumulative(node, shift, size, last) - ((last == 0) ? 0 : cumulative(node, shift, size, last - 1));
+        if(shift > BITS){
+            Node child = pushLeaf((Node) node.children[last], shift - BITS, lastSize, leaf);
+            if(child != null){
+                Object[] children = node.children.clone();
+                children[last] = child;
+                if(node.sizes == null && child.sizes == null)
+                    return new Node(children, null);
+                int[] sizes = sizesOf(node, shift, size);
+                sizes[last] += leaf.length;
+                return new Node(children, sizes);
+            }
+        }
+        if(last == WIDTH - 1)
+            return null;
+        Object[] children = Arrays.copyOf(node.children, last + 2);
+        children[last + 1] = path(leaf, shift - BITS);
+        if(node.sizes == null && lastSize == 1 << shift)
+            return new Node(children, null);
+        int[] sizes = Arrays.copyOf(sizesOf(node, shift, size), last + 2);
+        sizes[last + 1] = size + leaf.length;
+        return new Node(children, sizes);
+    }
+
+    // New vector with the elements of this vector followed by those of other
+    // The two trees are joined along the right edge of this one and the left edge of other,
+    // and only the nodes on those edges are copied and rebalanced
+    // O(log n)
+    public PersistentVector<E> concat(PersistentVector<E> other){
+        if(other.size == 0)
+            return this;
+        if(size == 0)
+            return other;
+        if(other.root == null){
+            // other is only a tail: it fills this tail and at most one leaf is pushed
+            Object[] values = Arrays.copyOf(tail, tail.length + other.tail.length);
+            System.arraycopy(other.tail, 0, values, tail.length, other.tail.length);
+            if(values.length <= WIDTH)
+                return new PersistentVector<>(root, shift, values, size + other.size);
+            return withLeaf(Arrays.copyOf(values, WIDTH), Arrays.copyOfRange(values, WIDTH, values.length));
+        }
+        PersistentVector<E> left = (tail.length == 0) ? this : withLeaf(tail, EMPTY);
+        Object[] joined = join(left.root, left.shift, other.root, other.shift);
+        int newShift = Math.max(left.shift, other.shift);
+        Node newRoot;
+        if(joined.length == 1){
+            newRoot = (Node) joined[0];
+        } else {
+            newRoot = node(joined, newShift + BITS);
+            newShift += BITS;
+        }
+        return new PersistentVector<>(newRoot, newShift, other.tail, size + other.size);
+    }
+    // Join two subtrees into one or two nodes at the greater of their shifts
+    // O(log n)
+    private static Object[] join(Object left, int leftShift, Object right, int rightShift){
+        if(leftShift > rightShift){
+            Node l = (Node) left;
+            int last = l.children.length - 1;
+            Object[] middle = join(l.children[last], leftShift - BITS, right, rightShift);
+            return rebalance(l.children, 0, last, middle, EMPTY, 0, leftShift);
+        }
+        if(leftShift < rightShift){
+            Node r = (Node) right;
+            Object[] middle = join(left, leftShift, r.children[0], rightShift - BITS);
+            return rebalance(EMPTY, 0, 0, middle, r.children, 1, rightShift);
+        }
+        if(leftShift == 0)
+            return new Object[]{left, right};
+        Node l = (Node) left;
+        Node r = (Node) right;
+        int last = l.children.length - 1;
+        Object[] middle = join(l.children[last], leftShift - BITS, r.children[0], rightShift - BITS);
+        return rebalance(l.children, 0, last, middle, r.children, 1, leftShift);
+    }
+    // Nodes at shift over left[leftFrom, leftTo), middle and right[rightFrom, ...)
+    // If they hold more than EXTRAS children beyond the fewest possible, the slots of the
+    // children are redistributed (concatenation plan of the RRB-tree) before they are split
+    // into one or two nodes
+    // O(WIDTH^2)
+    private static Object[] rebalance(Object[] left, int leftFrom, int leftTo, Object[] middle,
+                                      Object[] right, int rightFrom, int shift){
+        int count = (leftTo - leftFrom) + middle.length + (right.length - rightFrom);
+        Object[] all = new Object[count];
+        System.arraycopy(left, leftFrom, all, 0, leftTo - leftFrom);
+        System.arraycopy(middle, 0, all, leftTo - leftFrom, middle.length);
+        System.arraycopy(right, rightFrom, all, leftTo - leftFrom + middle.length, right.length - rightFrom);
+        int childShift = shift - BITS;
+        // plan[i] = number of slots of the i-th new child
+        int[] plan = new int[count];
+        int slots = 0;
+        for(int i = 0; i < count; i++){
+            plan[i] = slotsOf(all[i], childShift).length;
+            slots += plan[i];
+        }
+        int optimal = (slots + WIDTH - 1) / WIDTH;
+        int length = count;
+        int i = 0;
+        while(length > optimal + EXTRAS){
+            // skip the children that are full enough
+            while(plan[i] > WIDTH - EXTRAS / 2)
+                i++;
+            // spread the slots of child i over the children that follow it
+            int remaining = plan[i];
+            while(remaining > 0){
+                int filled = Math.min(remaining + plan[i + 1], WIDTH);
+                plan[i] = filled;
+                remaining = remaining + plan[i + 1] - filled;
+                i++;
+            }
+            System.arraycopy(plan, i + 1, plan, i, length - i - 1);
+            length--;
+            i--;
+        }
+        Object[] children = (length == count) ? all : redistribute(all, plan, length, childShift);
+        if(length <= WIDTH)
+            return new Object[]{node(children, shift)};
+        return new Object[]{node(Arrays.copyOf(children, WIDTH), shift),
+                            node(Arrays.copyOfRange(children, WIDTH, length), shift)};
+    }
+    // Children following plan, a child whose slots do not move is reused
+    // O(WIDTH^2)
+    private static Object[] redistribute(Object[] all, int[] plan, int length, int shift){
+        Object[] children = new Object[length];
+        int source = 0;
+        int offset = 0;
+        for(int i = 0; i < length; i++){
+            Object[] from = slotsOf(all[source], shift);
+            if(offset == 0 && from.length == plan[i]){
+                children[i] = all[source++];
+                continue;
+            }
+            Object[] slots = new Object[plan[i]];
+            int filled = 0;
+            while(filled < slots.length){
+                from = slotsOf(all[source], shift);
+                int n = Math.min(slots.length - filled, from.length - offset);
+                System.arraycopy(from, offset, slots, filled, n);
+                filled += n;
+                offset += n;
+                if(offset == from.length){
+                    source++;
+                    offset = 0;
+                }
+            }
+            children[i] = (shift == 0) ? slots : node(slots, shift);
+        }
+        return children;
+    }
+    // Elements of a leaf or children of a node
+    // O(1)
+    private static Object[] slotsOf(Object node, int shift){
+        return (shift == 0) ? (Object[]) node : ((Node) node).children;
+    }
+
+    // New vector with the elements from fromIndex (inclusive) to toIndex (exclusive)
+    // Only the nodes on the paths to the two ends are copied
+    // O(log32 n)
+    public PersistentVector<E> slice(int fromIndex, int toIndex){
+        Lists.checkRange(fromIndex, toIndex, size);
+        int length = toIndex - fromIndex;
+        if(length == size)
+            return this;
+        if(length <= WIDTH){
+            Object[] values = new Object[length];
+            for(int i = 0; i < length; i++)
+                values[i] = get(fromIndex + i);
+            return new PersistentVector<>(null, BITS, values, length);
+        }
+        int treeSize = treeSize();
+        int treeEnd = Math.min(toIndex, treeSize);
+        Object[] newTail = (toIndex > treeSize) ? Arrays.copyOf(tail, toIndex - treeSize) : EMPTY;
+        Object node = (treeEnd < treeSize) ? takeFront(root, shift, treeSize, treeEnd) : root;
+        if(fromIndex > 0)
+            node = dropFront(node, shift, treeEnd, fromIndex);
+        int newShift = shift;
+        while(newShift > BITS && ((Node) node).children.length == 1){
+            node = ((Node) node).children[0];
+            newShift -= BITS;
+        }
+        return new PersistentVector<>((Node) node, newShift, newTail, length);
+    }
+    // Copy of the first end elements of a leaf or a node holding size elements
+    // O(log32 n)
+    private static Object takeFront(Object node, int shift, int size, int end){
+        if(shift == 0){
+            Object[] leaf = (Object[]) node;
+            return (end == leaf.length) ? leaf : Arrays.copyOf(leaf, end);
+        }
+        Node n = (Node) node;
+        int child = childIndex(n, shift, end - 1);
+        int before = (child == 0) ? 0 : cumulative(n, shift, size, child - 1);
+        Object[] children = Arrays.copyOf(n.children, child + 1);
+        children[child] = takeFront(children[child], shift - BITS,
+            cumulative(n, shift, size, child) - before, end - before);
+        if(n.sizes == null && isBalanced(children[child], shift - BITS))
+            return new Node(children, null);
+        int[] sizes = Arrays.copyOf(sizesOf(n, shift, size), child + 1);
+        sizes[child] = end;
+        return new Node(children, sizes);
+    }
+    // Copy of a leaf or a node holding size elements without its first start elements
+    // O(log32 n)
+    private static Object dropFront(Object node, int shift, int size, int start){
+        if(shift == 0){
+            Object[] leaf = (Object[]) node;
+            return Arrays.copyOfRange(leaf, start, leaf.length);
+        }
+        Node n = (Node) node;
+        int child = childIndex(n, shift, start);
+        int before = (child == 0) ? 0 : cumulative(n, shift, size, child - 1);
+        int length = n.children.length - child;
+        Object[] children = Arrays.copyOfRange(n.children, child, n.children.length);
+        children[0] = dropFront(children[0], shift - BITS,
+            cumulative(n, shift, size, child) - before, start - before);
+        int[] sizes = new int[length];
+        for(int i = 0; i < length; i++)
+            sizes[i] = cumulative(n, shift, size, child + i) - start;
+        return new Node(children, sizes);
+    }
+
+    // Size of the list
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // Search for a value in the list
+    // O(n)
+    public boolean contains(Object o){
+        return indexOf(o) >= 0;
+    }
+    // Index of the first element equal to o, -1 if none
+    // O(n)
+    public int indexOf(Object o){
+        Iterator<E> iter = iterator();
+        for(int i = 0; iter.hasNext(); i++){
+            if(Objects.equals(o, iter.next()))
+                return i;
+        }
+        return -1;
+    }
+    // View of a range of the list, which is the slice of the range
+    // O(log32 n)
+    public List<E> subList(int fromIndex, int toIndex){
+        return slice(fromIndex, toIndex);
+    }
+    // The vector cannot be changed, appended, updated, concat and slice return new vectors
+    public boolean add(E value){
+        throw new UnsupportedOperationException();
+    }
+    public boolean add(int index, E value){
+        throw new UnsupportedOperationException();
+    }
+    public E set(int index, E value){
+        throw new UnsupportedOperationException();
+    }
+    public void clear(){
+        throw new UnsupportedOperationException();
+    }
+    public boolean remove(Object o){
+        throw new UnsupportedOperationException();
+    }
+    public boolean remove(int index){
+        throw new UnsupportedOperationException();
+    }
+    public boolean addAll(List<E> otherList){
+        throw new UnsupportedOperationException();
+    }
+    public boolean removeAll(List<E> otherList){
+        throw new UnsupportedOperationException();
+    }
+    public boolean retainAll(List<E> otherList){
+        throw new UnsupportedOperationException();
+    }
+    public boolean removeIf(Predicate<? super E> filter){
+        throw new UnsupportedOperationException();
+    }
+    public void replaceAll(UnaryOperator<E> operator){
+        throw new UnsupportedOperationException();
+    }
+    public void removeRange(int fromIndex, int toIndex){
+        throw new UnsupportedOperationException();
+    }
+    public void sort(Comparator<? super E> c){
+        throw new UnsupportedOperationException();
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new ArrayIndexOutOfBoundsException(
+                "Index out of bounds. Must be between 0 and " + (size - 1));
+    }
+    // toString() method
+    // O(n)
+    public String toString(){
+        StringBuilder output = new StringBuilder("[");
+        Iterator<E> iter = iterator();
+        while(iter.hasNext()){
+            output.append(iter.next());
+            if(iter.hasNext())
+                output.append(' ');
+        }
+        return output.append(']').toString();
+    }
+    // Iterator for the list
+    // O(1)
+    public Iterator<E> iterator(){
+        return new PersistentVectorIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+        return new PersistentVectorIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<E> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new ArrayIndexOutOfBoundsException();
+        return new PersistentVectorIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    // The leaf of the cursor is kept, so the tree is walked once per 32 elements
+    private class PersistentVectorIterator implements ListIterator<E>{
+        private int cursor;
+        private Object[] leaf = EMPTY;
+        // index of the first element of leaf
+        private int leafStart;
+        // O(1)
+        public PersistentVectorIterator(int index){
+            this.cursor = index;
+        }
+        // Element at index, from the kept leaf or from the leaf found in the tree
+        // O(1) within the kept leaf - O(log32 n) otherwise
+        private E element(int index){
+            if(index < leafStart || index >= leafStart + leaf.length){
+                int treeSize = treeSize();
+                if(index >= treeSize){
+                    leaf = tail;
+                    leafStart = treeSize;
+                } else {
+                    int offset = index;
+                    Object node = root;
+                    for(int level = shift; level > 0; level -= BITS){
+                        Node n = (Node) node;
+                        int child = childIndex(n, level, offset);
+                        offset -= (child == 0) ? 0 : (n.sizes == null) ? child << level : n.sizes[child - 1];
+                        node = n.children[child];
+                    }
+                    leaf = (Object[]) node;
+                    leafStart = index - offset;
+                }
+            }
+            return (E) leaf[index - leafStart];
+        }
+        // O(1)
+        public boolean hasNext(){
+            return cursor < size;
+        }
+        // O(1) amortized
+        public E next(){
+            if(cursor >= size)
+                throw new NoSuchElementException();
+            return element(cursor++);
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return cursor > 0;
+        }
+        // O(1) amortized
+        public E previous(){
+            if(cursor <= 0)
+                throw new NoSuchElementException();
+            return element(--cursor);
+        }
+        // O(1)
+        public int nextIndex(){
+            return cursor;
+        }
+        // O(1)
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        // O(1)
+        public void add(E value){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void set(E value){
+            throw new UnsupportedOperationException();
+        }
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n) - one block copy per leaf
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        int offset = (root == null) ? 0 : copyTo(root, shift, array, 0);
+        System.arraycopy(tail, 0, array, offset, tail.length);
+        return array;
+    }
+    // Copy the elements of a leaf or a node to array from offset, returns the offset after them
+    // O(size of the node)
+    private static int copyTo(Object node, int shift, Object[] array, int offset){
+        if(shift == 0){
+            Object[] leaf = (Object[]) node;
+            System.arraycopy(leaf, 0, array, offset, leaf.length);
+            return offset + leaf.length;
+        }
+        for(Object child : ((Node) node).children)
+            offset = copyTo(child, shift - BITS, array, offset);
+        return offset;
+    }
+}
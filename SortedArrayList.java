@@ -0,0 +1,461 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+/**
+ * Class SortedArrayList
+ * ArrayList that keeps its elements ordered by a comparator (the natural order by default)
+ * add inserts at the binary search position, after the elements that compare equal,
+ * contains, indexOf and remove(Object) are binary searches
+ * The bulk operations merge the two arrays in one pass when otherList is sorted the same way
+ * Like indexOf, every operation matches elements with equals(), the comparator only finds
+ * the run of elements that compare equal where the matches are looked for
+ * null is only accepted when the comparator accepts it, the natural order rejects it
+ * Date of creation: October 18, 2026
+ */
+public class SortedArrayList<E> implements Cloneable, RandomAccess, List<E>{
+   // data members
+   private E[] elements;
+   private int size;
+   private final Comparator<? super E> comparator;
+   // Constructors
+   // O(1)
+   public SortedArrayList() {
+     this(null);
+   }
+   public SortedArrayList(Comparator<? super E> comparator) {
+     this.comparator = (comparator != null) ? comparator : (Comparator<? super E>) Comparator.naturalOrder();
+     elements = (E[]) new Object[10];
+     size = 0;
+   }
+   // Comparator that orders the list
+   // O(1)
+   public Comparator<? super E> comparator() {
+     return comparator;
+   }
+   // Adding an item to the list at its sorted position
+   // O(log n) search - O(n) shift
+    public boolean add(E item) {
+      insert(upperBound(item), item);
+      return true;
+    }
+    // Adding an item at a specific index, only allowed where it keeps the list sorted
+    // O(n)
+    public boolean add(int index, E item){
+      if(index > size || index < 0)
+        throw new ArrayIndexOutOfBoundsException();
+      if((index > 0 && comparator.compare(elements[index - 1], item) > 0)
+         || (index < size && comparator.compare(item, elements[index]) > 0))
+        throw new IllegalArgumentException("Adding at index " + index + " would break the order of the list");
+      insert(index, item);
+      return true;
+    }
+    // Getter
+    // O(1)
+    public E get(int index) {
+      checkIndex(index);
+      return elements[index];
+    }
+    // Setter, only allowed if item stays between its neighbors
+    // O(1)
+    public E set(int index, E item) {
+      checkIndex(index);
+      if((index > 0 && comparator.compare(elements[index - 1], item) > 0)
+         || (index < size - 1 && comparator.compare(item, elements[index + 1]) > 0))
+        throw new IllegalArgumentException("Setting index " + index + " would break the order of the list");
+      checkComparable(item);
+      E oldItem = elements[index];
+      elements[index] = item;
+      return oldItem;
+    }
+    // Size of the list
+    // O(1)
+    public int size() {
+      return size;
+    }
+    // Clear the list
+    // O(n)
+    public void clear() {
+      Arrays.fill(elements, 0, size, null);
+      size = 0;
+    }
+    // Check if the list is empty
+    // O(1)
+    public boolean isEmpty() {
+      return (size == 0);
+    }
+    // Removing an object from the list
+    // O(log n) search - O(n) shift
+    public boolean remove(Object o) {
+      int index = indexOf(o);
+      if(index < 0)
+        return false;
+      remove(index);
+      return true;
+    }
+    // Removing the item at index from the list
+    // O(n)
+    public boolean remove(int index) {
+      checkIndex(index);
+      System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+      elements[--size] = null;
+      return true;
+    }
+    // Search for a value in the list
+    // O(log n)
+    public boolean contains(Object o){
+      return indexOf(o) >= 0;
+    }
+    // Index of the first element equal to o, -1 if none
+    // Binary search for the elements that compare equal to o, then equals() among them
+    // O(log n)
+    public int indexOf(Object o){
+      E value;
+      int index;
+      try {
+        value = (E) o;
+        index = lowerBound(value);
+      } catch(ClassCastException | NullPointerException e) {
+        return -1;
+      }
+      for(; index < size && comparator.compare(elements[index], value) == 0; index++){
+        if(Objects.equals(elements[index], o))
+          return index;
+      }
+      return -1;
+    }
+    // First index whose element is not less than value
+    // O(log n)
+    private int lowerBound(E value){
+      int low = 0, high = size;
+      while(low < high){
+        int middle = (low + high) >>> 1;
+        if(comparator.compare(elements[middle], value) < 0)
+          low = middle + 1;
+        else
+          high = middle;
+      }
+      return low;
+    }
+    // First index whose element is greater than value
+    // O(log n)
+    private int upperBound(E value){
+      int low = 0, high = size;
+      while(low < high){
+        int middle = (low + high) >>> 1;
+        if(comparator.compare(elements[middle], value) <= 0)
+          low = middle + 1;
+        else
+          high = middle;
+      }
+      return low;
+    }
+    // Check if otherList is a SortedArrayList with the same order
+    // O(1)
+    private boolean sortedLike(List<E> otherList){
+      return (otherList instanceof SortedArrayList)
+             && comparator.equals(((SortedArrayList<E>) otherList).comparator);
+    }
+    // Index of an element equal to value and not used yet in the run of other that compares equal
+    // to value, starting at index from, -1 if none, the element found is marked used if used is not null
+    // O(length of the run)
+    private int matchInRun(SortedArrayList<E> other, int from, E value, boolean[] used){
+      for(int k = from; k < other.size && comparator.compare(other.elements[k], value) == 0; k++){
+        if((used == null || !used[k]) && Objects.equals(other.elements[k], value)){
+          if(used != null)
+            used[k] = true;
+          return k;
+        }
+      }
+      return -1;
+    }
+    // Check that item can be compared, the comparator throws for null or for a value of the wrong
+    // type before the list holds an element that every later comparison would fail on
+    // O(1)
+    private void checkComparable(E item){
+      comparator.compare(item, item);
+    }
+    // Search for another list in the list
+    // O(n + m) merge when otherList is sorted the same way - O(m log n) otherwise
+    public boolean containsAll(List<E> otherList){
+      if(!sortedLike(otherList)){
+        Iterator<E> iter = otherList.iterator();
+        while(iter.hasNext()){
+          if(!contains(iter.next()))
+            return false;
+        }
+        return true;
+      }
+      SortedArrayList<E> other = (SortedArrayList<E>) otherList;
+      int i = 0;
+      for(int j = 0; j < other.size; j++){
+        while(i < size && comparator.compare(elements[i], other.elements[j]) < 0)
+          i++;
+        if(matchInRun(this, i, other.elements[j], null) < 0)
+          return false;
+      }
+      return true;
+    }
+    // Adding another list to the list
+    // O(n + m) merge when otherList is sorted the same way - O((n + m) log (n + m)) otherwise
+    public boolean addAll(List<E> otherList){
+      Object[] values = otherList.toArray();
+      if(values.length == 0)
+        return false;
+      ensureCapacity(size + values.length);
+      if(!sortedLike(otherList)){
+        if(size == 0 && values.length == 1)
+          checkComparable((E) values[0]);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+        // TimSort finds the sorted prefix as a single run
+        Arrays.sort(elements, 0, size, comparator);
+        return true;
+      }
+      // merge from the back so that the existing elements are moved only once
+      int i = size - 1, j = values.length - 1;
+      for(int k = size + values.length - 1; j >= 0; k--){
+        if(i >= 0 && comparator.compare(elements[i], (E) values[j]) > 0)
+          elements[k] = elements[i--];
+        else
+          elements[k] = (E) values[j--];
+      }
+      size += values.length;
+      return true;
+    }
+    // Removing elements of otherList
+    // Each element of otherList removes at most one matching element of this list
+    // The search in a run of otherList starts after its leading used elements, so equal runs are merged linearly
+    // O(n + m) merge when otherList is sorted the same way, hashing otherwise
+    public boolean removeAll(List<E> otherList){
+      int lastSize = size;
+      int kept = 0;
+      if(sortedLike(otherList)){
+        SortedArrayList<E> other = (SortedArrayList<E>) otherList;
+        boolean[] used = new boolean[other.size];
+        int j = 0, free = 0;
+        for(int i = 0; i < size; i++){
+          while(j < other.size && comparator.compare(other.elements[j], elements[i]) < 0)
+            j++;
+          free = Math.max(free, j);
+          if(matchInRun(other, free, elements[i], used) < 0)
+            elements[kept++] = elements[i];
+          while(free < other.size && used[free])
+            free++;
+        }
+      } else {
+        HashMap<E, Integer> counts = Lists.valueCounts(otherList);
+        for(int i = 0; i < size; i++){
+          Integer count = counts.get(elements[i]);
+          if(count != null && count > 0)
+            counts.put(elements[i], count - 1);
+          else
+            elements[kept++] = elements[i];
+        }
+      }
+      releaseFrom(kept);
+      return lastSize != size;
+    }
+    // Retaining only the elements from otherList
+    // O(n + m) merge when otherList is sorted the same way, hashing otherwise
+    public boolean retainAll(List<E> otherList){
+      int lastSize = size;
+      int kept = 0;
+      if(sortedLike(otherList)){
+        SortedArrayList<E> other = (SortedArrayList<E>) otherList;
+        int j = 0;
+        for(int i = 0; i < size; i++){
+          while(j < other.size && comparator.compare(other.elements[j], elements[i]) < 0)
+            j++;
+          if(matchInRun(other, j, elements[i], null) >= 0)
+            elements[kept++] = elements[i];
+        }
+      } else {
+        HashSet<E> values = Lists.valueSet(otherList);
+        for(int i = 0; i < size; i++){
+          if(values.contains(elements[i]))
+            elements[kept++] = elements[i];
+        }
+      }
+      releaseFrom(kept);
+      return lastSize != size;
+    }
+    // Removing the elements that match filter, single compacting pass that keeps the order
+    // O(n)
+    public boolean removeIf(Predicate<? super E> filter){
+      int lastSize = size;
+      int kept = 0;
+      int i = 0;
+      try {
+        for(; i < size; i++){
+          if(!filter.test(elements[i]))
+            elements[kept++] = elements[i];
+        }
+      } finally {
+        System.arraycopy(elements, i, elements, kept, size - i);
+        releaseFrom(kept + size - i);
+      }
+      return lastSize != size;
+    }
+    // Replacing each element by the result of operator on it, then sorting the list again
+    // O(n log n)
+    public void replaceAll(UnaryOperator<E> operator){
+      for(int i = 0; i < size; i++){
+        E value = operator.apply(elements[i]);
+        if(size == 1)
+          checkComparable(value);
+        elements[i] = value;
+      }
+      Arrays.sort(elements, 0, size, comparator);
+    }
+    // The list is always sorted by its own comparator, it cannot be reordered
+    // O(1)
+    public void sort(Comparator<? super E> c){
+      if(c != null && !c.equals(comparator))
+        throw new UnsupportedOperationException("A SortedArrayList keeps the order of its comparator");
+    }
+    // Insert item at a valid index
+    // O(n)
+    private void insert(int index, E item){
+      checkComparable(item);
+      ensureCapacity(size + 1);
+      System.arraycopy(elements, index, elements, index + 1, size - index);
+      elements[index] = item;
+      size++;
+    }
+    // Removing the elements from fromIndex (inclusive) to toIndex (exclusive), the order is kept
+    // O(n)
+    public void removeRange(int fromIndex, int toIndex){
+      Lists.checkRange(fromIndex, toIndex, size);
+      System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+      releaseFrom(size - (toIndex - fromIndex));
+    }
+    // Drop the elements from index newSize to the end after a compaction
+    // O(n)
+    private void releaseFrom(int newSize){
+      Arrays.fill(elements, newSize, size, null);
+      size = newSize;
+    }
+    // Grow the list if needed so that it can hold minCapacity elements
+    // O(n)
+    public void ensureCapacity(int minCapacity) {
+      if(minCapacity > elements.length) {
+        int newCap = Math.max(minCapacity, (int) (elements.length * 1.5));
+        elements = Arrays.copyOf(elements, newCap);
+      }
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+      if(index < 0 || index >= size)
+        throw new ArrayIndexOutOfBoundsException(
+            "Index out of bounds. Must be between 0 and "+(size-1));
+    }
+    // toString() method
+    // O(n)
+    public String toString() {
+      StringBuilder output = new StringBuilder("[");
+      for(int i = 0; i < size; i++){
+        if(i > 0)
+          output.append(' ');
+        output.append(elements[i]);
+      }
+      return output.append(']').toString();
+    }
+    // Iterator for the list
+    // O(1)
+    public Iterator<E> iterator(){
+      return new SortedListIterator(0);
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+      return new SortedListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<E> listIterator(int index){
+      if(index < 0 || index > size)
+        throw new ArrayIndexOutOfBoundsException();
+      return new SortedListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    private class SortedListIterator implements ListIterator<E>{
+      private int cursor;
+
+      // O(1)
+      public SortedListIterator(int index){
+        this.cursor = index;
+      }
+
+      // O(1)
+      public boolean hasNext() {
+        return cursor < size;
+      }
+
+      // O(1)
+      public E next() {
+        if(cursor >= size)
+          throw new NoSuchElementException();
+        return elements[cursor++];
+      }
+
+      // O(1)
+      public boolean hasPrevious(){
+        return cursor > 0;
+      }
+
+      // O(1)
+      public E previous(){
+        if(cursor <= 0)
+          throw new NoSuchElementException();
+        return elements[--cursor];
+      }
+
+      // O(1)
+      public int nextIndex(){
+        return cursor;
+      }
+
+      // O(1)
+      public int previousIndex(){
+        return cursor - 1;
+      }
+
+      // O(1)
+      public void add(E value){
+        throw new UnsupportedOperationException();
+      }
+
+      // O(1)
+      public void remove(){
+        throw new UnsupportedOperationException();
+      }
+
+      // O(1)
+      public void set(E value){
+        throw new UnsupportedOperationException();
+      }
+    }
+    // Clone method (deep copy)
+    // O(n)
+    public Object clone(){
+      SortedArrayList<E> copy = new SortedArrayList<>(comparator);
+      copy.elements = Arrays.copyOf(elements, Math.max(size, 1));
+      copy.size = size;
+      return copy;
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n)
+    public Object[] toArray(){
+      return Arrays.copyOf(elements, size, Object[].class);
+    }
+}
@@ -1,6 +1,29 @@
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import javax.management.Attribute;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import java.util.ListIterator;
 /**
  * Class Test
@@ -10,10 +33,15 @@ import java.util.ListIterator;
  */
 public class Test{
     public static void main(String[] args){
-        List<String> countriesAL = new ArrayList<String>();
-        readFile(countriesAL, "countries.txt");
+        MappedLineList countries = readFile("countries.txt");
+        List<String> countriesAL = new ArrayList<String>(countries.size());
+        countries.copyInto(countriesAL);
         List<String> countriesLL = new LinkedList<String>();
-        readFile(countriesLL, "countries.txt");
+        countries.copyInto(countriesLL);
+        List<String> countriesUL = new UnrolledLinkedList<String>();
+        countries.copyInto(countriesUL);
+        List<String> countriesLH = new LinkedHashList<String>();
+        countries.copyInto(countriesLH);
         // Testing the arraylist
         System.out.println("Testing ArrayList");
         List<String> copyAL = (List<String>)(((ArrayList<String>)countriesAL).clone());
@@ -55,31 +83,878 @@ public class Test{
         System.out.println("Size of LinkedList after retainAll(): " + copyLL.size());
         Object[] objectsLL = copyLL.toArray();
         System.out.println("LinkedList toArray() returned an array with size: " + objectsLL.length);
+        // Testing the unrolled linkedlist
+        System.out.println("Testing UnrolledLinkedList");
+        List<String> copyUL = (List<String>)(((UnrolledLinkedList<String>)countriesUL).clone());
+        country = copyUL.get(index);
+        System.out.println("UnrolledLinkedList get(" + index + ") returned: " + country);
+        country = copyUL.set(index, country);
+        System.out.println("UnrolledLinkedList set(" + index + ", " + country +") returned: " + country);
+        returnValue = copyUL.remove("any country");
+        System.out.println("UnrolledLinkedList remove(anycountry) returned: " + returnValue);
+        returnValue = copyUL.remove(index);
+        System.out.println("UnrolledLinkedList remove(" + index + ") returned: " + returnValue);
+        returnValue = copyUL.add(index, country);
+        System.out.println("UnrolledLinkedList add(" + index + ", " + country + ") returned: " + returnValue);
+        returnValue = copyUL.containsAll(countriesUL);
+        System.out.println("UnrolledLinkedList containsAll() returned: " + returnValue);
+        copyUL.addAll(countriesUL);
+        System.out.println("Size of UnrolledLinkedList after addAll(): " + copyUL.size());
+        copyUL.removeAll(countriesUL);
+        System.out.println("Size of UnrolledLinkedList after removeAll(): " + copyUL.size());
+        copyUL.retainAll(countriesUL);
+        System.out.println("Size of UnrolledLinkedList after retainAll(): " + copyUL.size());
+        Object[] objectsUL = copyUL.toArray();
+        System.out.println("UnrolledLinkedList toArray() returned an array with size: " + objectsUL.length);
+        // Testing the hash-indexed linkedlist
+        System.out.println("Testing LinkedHashList");
+        List<String> copyLH = (List<String>)(((LinkedHashList<String>)countriesLH).clone());
+        country = copyLH.get(index);
+        System.out.println("LinkedHashList get(" + index + ") returned: " + country);
+        country = copyLH.set(index, country);
+        System.out.println("LinkedHashList set(" + index + ", " + country +") returned: " + country);
+        returnValue = copyLH.remove("any country");
+        System.out.println("LinkedHashList remove(anycountry) returned: " + returnValue);
+        returnValue = copyLH.remove(index);
+        System.out.println("LinkedHashList remove(" + index + ") returned: " + returnValue);
+        returnValue = copyLH.add(index, country);
+        System.out.println("LinkedHashList add(" + index + ", " + country + ") returned: " + returnValue);
+        returnValue = copyLH.containsAll(countriesLH);
+        System.out.println("LinkedHashList containsAll() returned: " + returnValue);
+        copyLH.addAll(countriesLH);
+        System.out.println("Size of LinkedHashList after addAll(): " + copyLH.size());
+        copyLH.removeAll(countriesLH);
+        System.out.println("Size of LinkedHashList after removeAll(): " + copyLH.size());
+        copyLH.retainAll(countriesLH);
+        System.out.println("Size of LinkedHashList after retainAll(): " + copyLH.size());
+        Object[] objectsLH = copyLH.toArray();
+        System.out.println("LinkedHashList toArray() returned an array with size: " + objectsLH.length);
+        // Testing the persistent vector
+        System.out.println("Testing PersistentVector");
+        PersistentVector<String> vectorPV = PersistentVector.of(countriesAL);
+        PersistentVector<String> updatedPV = vectorPV.updated(index, "any country");
+        System.out.println("PersistentVector get(" + index + ") returned: " + vectorPV.get(index)
+            + ", after updated(" + index + "): " + updatedPV.get(index));
+        PersistentVector<String> concatPV = vectorPV.concat(updatedPV);
+        System.out.println("Size of PersistentVector after concat(): " + concatPV.size());
+        List<String> slicePV = concatPV.subList(index, concatPV.size() - index);
+        System.out.println("Size of PersistentVector after subList(): " + slicePV.size());
+        returnValue = slicePV.containsAll(countriesAL);
+        System.out.println("PersistentVector containsAll() returned: " + returnValue);
+        // Testing the concurrent arraylist
+        System.out.println("Testing ConcurrentArrayList");
+        List<String> copyCA = new ConcurrentArrayList<String>();
+        countries.copyInto(copyCA);
+        country = copyCA.get(index);
+        System.out.println("ConcurrentArrayList get(" + index + ") returned: " + country);
+        country = copyCA.set(index, country);
+        System.out.println("ConcurrentArrayList set(" + index + ", " + country +") returned: " + country);
+        returnValue = copyCA.remove("any country");
+        System.out.println("ConcurrentArrayList remove(anycountry) returned: " + returnValue);
+        returnValue = copyCA.remove(index);
+        System.out.println("ConcurrentArrayList remove(" + index + ") returned: " + returnValue);
+        returnValue = copyCA.add(index, country);
+        System.out.println("ConcurrentArrayList add(" + index + ", " + country + ") returned: " + returnValue);
+        returnValue = copyCA.containsAll(countriesAL);
+        System.out.println("ConcurrentArrayList containsAll() returned: " + returnValue);
+        copyCA.addAll(countriesAL);
+        System.out.println("Size of ConcurrentArrayList after addAll(): " + copyCA.size());
+        copyCA.removeAll(countriesAL);
+        System.out.println("Size of ConcurrentArrayList after removeAll(): " + copyCA.size());
+        copyCA.retainAll(countriesAL);
+        System.out.println("Size of ConcurrentArrayList after retainAll(): " + copyCA.size());
+        Object[] objectsCA = copyCA.toArray();
+        System.out.println("ConcurrentArrayList toArray() returned an array with size: " + objectsCA.length);
+        System.out.println("ConcurrentArrayList readers with a writer returned: " + testConcurrentArrayList());
+        System.out.println("ConcurrentArrayList iterator with a writer returned: " + testConcurrentIterator());
+        ConcurrentArrayList<Integer> sortedCA = new ConcurrentArrayList<Integer>();
+        for(int i = 100000; i > 0; i--)
+            sortedCA.add(i % 1000);
+        sortedCA.sort(null);
+        Object[] expectedCA = sortedCA.toArray();
+        Arrays.sort(expectedCA);
+        System.out.println("ConcurrentArrayList sort() returned: " + Arrays.equals(sortedCA.toArray(), expectedCA));
+        // Testing the concurrent linkedlist, its positional writes are not supported
+        System.out.println("Testing ConcurrentLinkedList");
+        List<String> copyCL = new ConcurrentLinkedList<String>();
+        countries.copyInto(copyCL);
+        country = copyCL.get(index);
+        System.out.println("ConcurrentLinkedList get(" + index + ") returned: " + country);
+        returnValue = copyCL.remove("any country");
+        System.out.println("ConcurrentLinkedList remove(anycountry) returned: " + returnValue);
+        returnValue = copyCL.containsAll(countriesLL);
+        System.out.println("ConcurrentLinkedList containsAll() returned: " + returnValue);
+        copyCL.addAll(countriesLL);
+        System.out.println("Size of ConcurrentLinkedList after addAll(): " + copyCL.size());
+        copyCL.removeAll(countriesLL);
+        System.out.println("Size of ConcurrentLinkedList after removeAll(): " + copyCL.size());
+        copyCL.retainAll(countriesLL);
+        System.out.println("Size of ConcurrentLinkedList after retainAll(): " + copyCL.size());
+        Object[] objectsCL = copyCL.toArray();
+        System.out.println("ConcurrentLinkedList toArray() returned an array with size: " + objectsCL.length);
+        System.out.println("ConcurrentLinkedList producers/consumers returned: " + testConcurrentLinkedList());
+        // Testing the cursor linkedlist
+        System.out.println("Testing CursorLinkedList");
+        List<String> countriesCU = new CursorLinkedList<String>();
+        countries.copyInto(countriesCU);
+        List<String> copyCU = (List<String>)(((CursorLinkedList<String>)countriesCU).clone());
+        country = copyCU.get(index);
+        System.out.println("CursorLinkedList get(" + index + ") returned: " + country);
+        country = copyCU.set(index, country);
+        System.out.println("CursorLinkedList set(" + index + ", " + country +") returned: " + country);
+        returnValue = copyCU.remove("any country");
+        System.out.println("CursorLinkedList remove(anycountry) returned: " + returnValue);
+        returnValue = copyCU.remove(index);
+        System.out.println("CursorLinkedList remove(" + index + ") returned: " + returnValue);
+        returnValue = copyCU.add(index, country);
+        System.out.println("CursorLinkedList add(" + index + ", " + country + ") returned: " + returnValue);
+        returnValue = copyCU.containsAll(countriesCU);
+        System.out.println("CursorLinkedList containsAll() returned: " + returnValue);
+        copyCU.addAll(countriesCU);
+        System.out.println("Size of CursorLinkedList after addAll(): " + copyCU.size());
+        copyCU.removeAll(countriesCU);
+        System.out.println("Size of CursorLinkedList after removeAll(): " + copyCU.size());
+        copyCU.retainAll(countriesCU);
+        System.out.println("Size of CursorLinkedList after retainAll(): " + copyCU.size());
+        Object[] objectsCU = copyCU.toArray();
+        System.out.println("CursorLinkedList toArray() returned an array with size: " + objectsCU.length);
+        // Testing the circular arraylist
+        System.out.println("Testing CircularArrayList");
+        List<String> countriesCI = new CircularArrayList<String>();
+        countries.copyInto(countriesCI);
+        List<String> copyCI = (List<String>)(((CircularArrayList<String>)countriesCI).clone());
+        country = copyCI.get(index);
+        System.out.println("CircularArrayList get(" + index + ") returned: " + country);
+        country = copyCI.set(index, country);
+        System.out.println("CircularArrayList set(" + index + ", " + country +") returned: " + country);
+        returnValue = copyCI.remove("any country");
+        System.out.println("CircularArrayList remove(anycountry) returned: " + returnValue);
+        returnValue = copyCI.remove(index);
+        System.out.println("CircularArrayList remove(" + index + ") returned: " + returnValue);
+        returnValue = copyCI.add(index, country);
+        System.out.println("CircularArrayList add(" + index + ", " + country + ") returned: " + returnValue);
+        returnValue = copyCI.containsAll(countriesCI);
+        System.out.println("CircularArrayList containsAll() returned: " + returnValue);
+        copyCI.addAll(countriesCI);
+        System.out.println("Size of CircularArrayList after addAll(): " + copyCI.size());
+        copyCI.removeAll(countriesCI);
+        System.out.println("Size of CircularArrayList after removeAll(): " + copyCI.size());
+        copyCI.retainAll(countriesCI);
+        System.out.println("Size of CircularArrayList after retainAll(): " + copyCI.size());
+        Object[] objectsCI = copyCI.toArray();
+        System.out.println("CircularArrayList toArray() returned an array with size: " + objectsCI.length);
+        // Testing the off-heap string list
+        System.out.println("Testing OffHeapStringList");
+        List<String> countriesOH = new OffHeapStringList();
+        countries.copyInto(countriesOH);
+        List<String> copyOH = (List<String>)(((OffHeapStringList)countriesOH).clone());
+        country = copyOH.get(index);
+        System.out.println("OffHeapStringList get(" + index + ") returned: " + country);
+        country = copyOH.set(index, country);
+        System.out.println("OffHeapStringList set(" + index + ", " + country +") returned: " + country);
+        returnValue = copyOH.remove("any country");
+        System.out.println("OffHeapStringList remove(anycountry) returned: " + returnValue);
+        returnValue = copyOH.remove(index);
+        System.out.println("OffHeapStringList remove(" + index + ") returned: " + returnValue);
+        returnValue = copyOH.add(index, country);
+        System.out.println("OffHeapStringList add(" + index + ", " + country + ") returned: " + returnValue);
+        returnValue = copyOH.containsAll(countriesOH);
+        System.out.println("OffHeapStringList containsAll() returned: " + returnValue);
+        copyOH.addAll(countriesOH);
+        System.out.println("Size of OffHeapStringList after addAll(): " + copyOH.size());
+        copyOH.removeAll(countriesOH);
+        System.out.println("Size of OffHeapStringList after removeAll(): " + copyOH.size());
+        copyOH.retainAll(countriesOH);
+        System.out.println("Size of OffHeapStringList after retainAll(): " + copyOH.size());
+        Object[] objectsOH = copyOH.toArray();
+        System.out.println("OffHeapStringList toArray() returned an array with size: " + objectsOH.length);
+        System.out.println("OffHeapStringList iterator returned: " + testOffHeapStringList(countriesOH));
+        // Testing the sorted arraylist, each bulk operation gets a sorted and an unsorted argument
+        System.out.println("Testing SortedArrayList");
+        testSortedArrayList(countriesAL);
+        // Testing the primitive arraylists through their List methods, then their allocation-free methods
+        System.out.println("Testing IntArrayList, LongArrayList and DoubleArrayList");
+        testPrimitiveList("IntArrayList", new IntArrayList(), i -> i * 7, list -> (List<Integer>)(((IntArrayList) list).clone()));
+        testPrimitiveList("LongArrayList", new LongArrayList(), i -> i * 1000000007L, list -> (List<Long>)(((LongArrayList) list).clone()));
+        testPrimitiveList("DoubleArrayList", new DoubleArrayList(), i -> i / 3.0, list -> (List<Double>)(((DoubleArrayList) list).clone()));
+        IntArrayList ints = new IntArrayList();
+        for(int i = 0; i < 100; i++)
+            ints.addInt(i * 7);
+        ints.setInt(3, -1);
+        returnValue = ints.getInt(3) == -1 && ints.containsInt(98 * 7) && ints.indexOfInt(98 * 7) == 98
+            && ints.removeInt(-1) && !ints.containsInt(-1) && ints.size() == 99;
+        System.out.println("IntArrayList int methods returned: " + returnValue);
+        // Testing the streams, the parallel ones go through the spliterators
+        System.out.println("Testing streams");
+        testStreams("ArrayList", countriesAL);
+        testStreams("LinkedList", countriesLL);
+        ArrayList<Integer> manyAL = new ArrayList<Integer>();
+        LinkedList<Integer> manyLL = new LinkedList<Integer>();
+        for(int i = 0; i < 100000; i++){
+            manyAL.add(i);
+            manyLL.add(i);
+        }
+        testStreams("Large ArrayList", manyAL);
+        testStreams("Large LinkedList", manyLL);
+        // Testing removeIf and replaceAll
+        System.out.println("Testing removeIf and replaceAll");
+        testRemoveIf("ArrayList", (List<String>)(((ArrayList<String>)countriesAL).clone()));
+        testRemoveIf("LinkedList", (List<String>)(((LinkedList<String>)countriesLL).clone()));
+        // Testing the sublist views and removeRange
+        System.out.println("Testing subList and removeRange");
+        testSubList("ArrayList", (List<String>)(((ArrayList<String>)countriesAL).clone()));
+        testSubList("LinkedList", (List<String>)(((LinkedList<String>)countriesLL).clone()));
+        // Testing the growth policies, the resizes are counted by ListMetrics
+        System.out.println("Testing growth policies");
+        testGrowthPolicy(GrowthPolicy.geometric(1.5));
+        testGrowthPolicy(GrowthPolicy.fixedIncrement(100));
+        testGrowthPolicy(GrowthPolicy.powerOfTwo(16));
+        // Testing the metrics recorded through InstrumentedList, JMX and JFR
+        System.out.println("Testing ListMetrics");
+        testListMetrics(countriesAL);
+        // Testing the copy on write clones
+        System.out.println("Testing copy on write clones");
+        testCopyOnWrite("ArrayList", countriesAL, list -> (List<String>)(((ArrayList<String>) list).clone()));
+        testCopyOnWrite("LinkedList", countriesLL, list -> (List<String>)(((LinkedList<String>) list).clone()));
+        // Testing the snapshots, written back to back on one channel
+        System.out.println("Testing snapshots");
+        testSnapshots(countriesAL, countriesLL);
 
         // Printing the lists forward
         System.out.println("\nArraylist forward: ");
         printListForward(countriesAL);
         System.out.println("\nLinkedlist forward: ");
         printListForward(countriesLL);
+        System.out.println("\nUnrolledLinkedlist forward: ");
+        printListForward(countriesUL);
         // Printing the lists backward
         System.out.println("\nArraylist backward: ");
         printListBackward(countriesAL);
         System.out.println("\nLinkedlist backward: ");
         printListBackward(countriesLL);
     }
-    public static void readFile(List<String> list, String filename){
-        File file = new File(filename);
+    // Method to check the iterator writes, removeIf and the compaction of an OffHeapStringList
+    // against an ArrayList that gets the same writes
+    public static boolean testOffHeapStringList(List<String> strings){
+        Object[] original = strings.toArray();
+        OffHeapStringList list = (OffHeapStringList) ((OffHeapStringList) strings).clone();
+        ArrayList<String> expected = new ArrayList<String>();
+        expected.addAll(strings);
+        // every round leaves each element as garbage once, the later rounds compact the buffer
+        for(int round = 0; round < 40; round++){
+            for(List<String> copy : Arrays.<List<String>>asList(list, expected)){
+                ListIterator<String> iter = copy.listIterator();
+                while(iter.hasNext()){
+                    String value = iter.next();
+                    if(iter.nextIndex() % 7 == 0){
+                        iter.remove();
+                        iter.add(value);
+                    } else {
+                        iter.set(value + "");
+                    }
+                }
+                iter.add(null);
+                iter.previous();
+                iter.remove();
+            }
+        }
+        boolean returnValue = Arrays.equals(list.toArray(), expected.toArray());
+        list.removeIf(value -> value.startsWith("S"));
+        expected.removeIf(value -> value.startsWith("S"));
+        return returnValue && Arrays.equals(list.toArray(), expected.toArray()) && Arrays.equals(strings.toArray(), original);
+    }
+    // Method to run the same writes on a primitive arraylist and a java.util.ArrayList, the values
+    // are made by value from their index, the lists must match after each step
+    public static <E> void testPrimitiveList(String name, List<E> list, IntFunction<E> value, UnaryOperator<List<E>> cloner){
+        java.util.List<E> expected = new java.util.ArrayList<E>();
+        for(int i = 0; i < 1000; i++){
+            list.add(value.apply(i));
+            expected.add(value.apply(i));
+        }
+        list.add(10, value.apply(-1));
+        expected.add(10, value.apply(-1));
+        list.set(20, value.apply(-2));
+        expected.set(20, value.apply(-2));
+        list.remove(30);
+        expected.remove(30);
+        list.remove(value.apply(40));
+        expected.remove(value.apply(40));
+        boolean returnValue = Arrays.equals(list.toArray(), expected.toArray()) && list.contains(value.apply(-2))
+            && !list.contains(value.apply(40));
+        System.out.println(name + " add(), set() and remove() returned: " + returnValue);
+        ListIterator<E> iter = list.listIterator();
+        java.util.ListIterator<E> expectedIter = expected.listIterator();
+        for(int i = 0; iter.hasNext(); i++){
+            E next = iter.next();
+            expectedIter.next();
+            if(i % 3 == 0){
+                iter.remove();
+                expectedIter.remove();
+            } else if(i % 3 == 1){
+                iter.add(next);
+                expectedIter.add(next);
+            } else {
+                iter.set(value.apply(-i));
+                expectedIter.set(value.apply(-i));
+            }
+        }
+        System.out.println(name + " iterator writes returned: " + Arrays.equals(list.toArray(), expected.toArray()));
+        list.removeRange(0, 5);
+        expected.subList(0, 5).clear();
+        list.removeRange(100, 400);
+        expected.subList(100, 400).clear();
+        list.removeRange(list.size() - 10, list.size());
+        expected.subList(expected.size() - 10, expected.size()).clear();
+        System.out.println(name + " removeRange() returned: " + Arrays.equals(list.toArray(), expected.toArray()));
+        List<E> other = list.subList(0, 50);
+        java.util.List<E> expectedOther = new java.util.ArrayList<E>(expected.subList(0, 50));
+        List<E> copy = cloner.apply(list);
+        copy.removeAll(other);
+        copy.addAll(other);
+        copy.retainAll(other);
+        copy.sort(null);
+        java.util.List<E> expectedCopy = new java.util.ArrayList<E>(expected);
+        // each element removes one matching element only
+        for(E removed : expectedOther)
+            expectedCopy.remove(removed);
+        expectedCopy.addAll(expectedOther);
+        expectedCopy.retainAll(expectedOther);
+        expectedCopy.sort(null);
+        System.out.println(name + " bulk operations and sort() returned: " + Arrays.equals(copy.toArray(), expectedCopy.toArray())
+            + ", the list was not changed: " + Arrays.equals(list.toArray(), expected.toArray()));
+    }
+    // Method to compare the sequential and parallel streams of a list with its contents
+    public static <E> void testStreams(String name, List<E> list){
+        E first = list.get(0);
+        boolean returnValue = list.stream().count() == list.size() && list.parallelStream().count() == list.size()
+            && Arrays.equals(list.parallelStream().toArray(), list.toArray())
+            && list.parallelStream().filter(value -> first.equals(value)).count() == 1;
+        System.out.println(name + " stream() and parallelStream() returned: " + returnValue);
+    }
+    // Method to remove and replace elements of a list with removeIf and replaceAll, including a filter
+    // that throws part way, the elements it has not tested yet must be kept
+    public static void testRemoveIf(String name, List<String> list){
+        java.util.List<String> expected = new java.util.ArrayList<String>();
+        for(Object value : list.toArray()){
+            if(!((String) value).startsWith("S"))
+                expected.add((String) value);
+        }
+        boolean returnValue = list.removeIf(value -> value.startsWith("S")) && !list.removeIf(value -> value.startsWith("S"))
+            && Arrays.equals(list.toArray(), expected.toArray());
+        System.out.println(name + " removeIf() returned: " + returnValue);
+        list.replaceAll(String::toUpperCase);
+        expected.replaceAll(String::toUpperCase);
+        System.out.println(name + " replaceAll() returned: " + Arrays.equals(list.toArray(), expected.toArray()));
+        // the filter removes the elements of even index and throws on the one at index 100
+        AtomicInteger tested = new AtomicInteger();
+        try{
+            list.removeIf(value -> {
+                int index = tested.getAndIncrement();
+                if(index == 100)
+                    throw new IllegalStateException();
+                return index % 2 == 0;
+            });
+            returnValue = false;
+        }
+        catch(IllegalStateException e){
+            for(int i = 98; i >= 0; i -= 2)
+                expected.remove(i);
+            returnValue = Arrays.equals(list.toArray(), expected.toArray());
+        }
+        System.out.println(name + " removeIf() with a throwing filter returned: " + returnValue);
+    }
+    // Method to write through a sublist view and its iterator, then to remove ranges of the list,
+    // the same changes are made to a java.util.ArrayList that the list must match after each step
+    public static void testSubList(String name, List<String> list){
+        java.util.List<String> expected = new java.util.ArrayList<String>();
+        for(Object value : list.toArray())
+            expected.add((String) value);
+        List<String> view = list.subList(10, 40);
+        java.util.List<String> expectedView = expected.subList(10, 40);
+        view.set(0, "any country");
+        expectedView.set(0, "any country");
+        view.add(5, "any country");
+        expectedView.add(5, "any country");
+        view.remove(3);
+        expectedView.remove(3);
+        ListIterator<String> iter = view.listIterator();
+        java.util.ListIterator<String> expectedIter = expectedView.listIterator();
+        for(int i = 0; iter.hasNext(); i++){
+            String value = iter.next();
+            expectedIter.next();
+            if(i % 4 == 0){
+                iter.remove();
+                expectedIter.remove();
+            } else if(i % 4 == 1){
+                iter.add(value);
+                expectedIter.add(value);
+            } else {
+                iter.set(value.toUpperCase());
+                expectedIter.set(value.toUpperCase());
+            }
+        }
+        view.removeRange(2, 6);
+        expectedView.subList(2, 6).clear();
+        boolean returnValue = view.size() == expectedView.size() && Arrays.equals(view.toArray(), expectedView.toArray())
+            && Arrays.equals(list.toArray(), expected.toArray());
+        System.out.println(name + " writes through subList() returned: " + returnValue);
+        list.removeRange(0, 3);
+        expected.subList(0, 3).clear();
+        list.removeRange(list.size() / 2, list.size() / 2 + 50);
+        expected.subList(expected.size() / 2, expected.size() / 2 + 50).clear();
+        list.removeRange(list.size() - 7, list.size());
+        expected.subList(expected.size() - 7, expected.size()).clear();
+        list.removeRange(4, 4);
+        System.out.println(name + " removeRange() returned: " + Arrays.equals(list.toArray(), expected.toArray()));
+    }
+    // Method to grow an ArrayList past the capacity thresholds of policy, hover around one of them,
+    // then shrink it below them, the resizes counted by ListMetrics must be the ones the policy asks for
+    // and hovering must not resize more than once
+    public static void testGrowthPolicy(GrowthPolicy policy){
+        ListMetrics metrics = ListMetrics.get();
+        metrics.reset();
+        metrics.setEnabled(true);
+        ArrayList<Integer> list = new ArrayList<Integer>(GrowthPolicy.MIN_CAPACITY, policy);
+        java.util.List<Integer> expected = new java.util.ArrayList<Integer>();
+        int capacity = GrowthPolicy.MIN_CAPACITY;
+        int resizes = 0;
+        // the adds stop right after a growth, past 5000 elements
+        boolean grew = false;
+        for(int i = 0; i < 5000 || !grew; i++){
+            list.add(i);
+            expected.add(i);
+            grew = expected.size() > capacity;
+            if(grew){
+                capacity = policy.grow(capacity, expected.size());
+                resizes++;
+            }
+        }
+        // the size goes back and forth across the last growth boundary
+        int boundary = expected.size();
+        long hoverStart = metrics.getResizes();
+        int hoverResizes = resizes;
+        for(int i = 0; i < 200; i++){
+            for(int k = 0; k < 20; k++){
+                list.remove(list.size() - 1);
+                expected.remove(expected.size() - 1);
+                int newCapacity = Math.max(policy.shrink(capacity, expected.size()), GrowthPolicy.MIN_CAPACITY);
+                if(newCapacity < capacity){
+                    capacity = newCapacity;
+                    resizes++;
+                }
+            }
+            for(int k = 0; k < 20; k++){
+                list.add(boundary + k);
+                expected.add(boundary + k);
+                if(expected.size() > capacity){
+                    capacity = policy.grow(capacity, expected.size());
+                    resizes++;
+                }
+            }
+        }
+        long hovered = metrics.getResizes() - hoverStart;
+        hoverResizes = resizes - hoverResizes;
+        while(expected.size() > 3){
+            list.remove(0);
+            expected.remove(0);
+            int newCapacity = Math.max(policy.shrink(capacity, expected.size()), GrowthPolicy.MIN_CAPACITY);
+            if(newCapacity < capacity){
+                capacity = newCapacity;
+                resizes++;
+            }
+        }
+        boolean returnValue = Arrays.equals(list.toArray(), expected.toArray()) && metrics.getResizes() == resizes
+            && hovered == hoverResizes && hovered <= 1;
+        metrics.setEnabled(false);
+        metrics.reset();
+        System.out.println("ArrayList with " + policy + " grew and shrank " + resizes + " times, returned: " + returnValue);
+    }
+    // Method to run a few operations through InstrumentedList with the metrics enabled and a JFR
+    // recording running, the counters are read through the MBean server, the events from the recording
+    public static void testListMetrics(List<String> strings){
+        ListMetrics metrics;
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name;
+        try{
+            metrics = ListMetrics.register();
+            name = new ObjectName("lists:type=ListMetrics");
+            server.setAttribute(name, new Attribute("Enabled", true));
+        }
+        catch(JMException e){
+            System.out.println("Could not register the metrics: " + e);
+            return;
+        }
+        metrics.reset();
+        final int ADDS = 1000;
+        try(Recording recording = new Recording()){
+            recording.enable("lists.Operation");
+            recording.enable("lists.Resize");
+            recording.start();
+            List<String> array = new InstrumentedList<String>(new ArrayList<String>());
+            List<String> linked = new InstrumentedList<String>(new LinkedList<String>());
+            for(int i = 0; i < ADDS; i++){
+                array.add(strings.get(i % strings.size()));
+                linked.add(0, strings.get(i % strings.size()));
+            }
+            array.contains("any country");
+            array.remove(0);
+            linked.get(ADDS / 2);
+            linked.get(ADDS / 4);
+            recording.stop();
+            Path path = Files.createTempFile("lists", ".jfr");
+            try{
+                recording.dump(path);
+                int operations = 0, resizes = 0;
+                for(RecordedEvent event : RecordingFile.readAllEvents(path)){
+                    if(event.getEventType().getName().equals("lists.Operation"))
+                        operations++;
+                    else if(event.getEventType().getName().equals("lists.Resize"))
+                        resizes++;
+                }
+                System.out.println("ListMetrics JFR recorded " + operations + " operation events, resize events: " + (resizes > 0));
+            } finally {
+                Files.delete(path);
+            }
+            long adds = 0;
+            for(long count : (long[]) server.invoke(name, "getLatencyHistogram", new Object[]{"ADD"}, new String[]{String.class.getName()}))
+                adds += count;
+            System.out.println("ListMetrics ADD calls: " + adds + ", CONTAINS calls: " + Arrays.stream(metrics.getLatencyHistogram("CONTAINS")).sum()
+                + ", GET calls: " + Arrays.stream(metrics.getLatencyHistogram("GET")).sum());
+            System.out.println("ListMetrics resizes: " + ((Long) server.getAttribute(name, "Resizes") > 0)
+                + ", bytes copied: " + (metrics.getBytesCopied() > 0) + ", elements shifted: " + (metrics.getElementsShifted() > 0)
+                + ", node hops: " + (metrics.getNodeHops() >= ADDS / 4) + ", mean ADD latency: " + (metrics.getMeanLatency("ADD") > 0));
+            metrics.setEnabled(false);
+            array.add("any country");
+            System.out.println("ListMetrics disabled ADD calls: " + Arrays.stream(metrics.getLatencyHistogram("ADD")).sum());
+        }
+        catch(IOException | JMException e){
+            System.out.println("Could not read the metrics: " + e);
+        }
+        finally{
+            metrics.setEnabled(false);
+            metrics.reset();
+        }
+    }
+    // Method to run the searches and the bulk operations of a SortedArrayList
+    // The sorted arguments take the merge paths, the unsorted ones the hashing paths
+    public static void testSortedArrayList(List<String> strings){
+        SortedArrayList<String> sorted = new SortedArrayList<String>();
+        sorted.addAll(strings);
+        ArrayList<String> unsorted = (ArrayList<String>) ((ArrayList<String>) strings).clone();
+        unsorted.sort(Collections.reverseOrder());
+        Object[] expected = unsorted.toArray();
+        Arrays.sort(expected);
+        System.out.println("SortedArrayList addAll() is sorted: " + Arrays.equals(sorted.toArray(), expected));
+        String country = strings.get(strings.size() / 2);
+        int index = sorted.indexOf(country);
+        System.out.println("SortedArrayList indexOf(" + country + ") returned: " + index
+            + ", get(" + index + ") returned: " + sorted.get(index));
+        System.out.println("SortedArrayList contains(" + country + ") returned: " + sorted.contains(country)
+            + ", contains(any country) returned: " + sorted.contains("any country"));
+        boolean returnValue = sorted.remove(country) && !sorted.contains(country) && !sorted.remove(country);
+        sorted.add(country);
+        System.out.println("SortedArrayList remove(" + country + ") returned: " + returnValue);
+        SortedArrayList<String> half = new SortedArrayList<String>();
+        ArrayList<String> halfUnsorted = new ArrayList<String>();
+        for(int i = 0; i < unsorted.size(); i += 2){
+            half.add(unsorted.get(i));
+            halfUnsorted.add(unsorted.get(i));
+        }
+        System.out.println("SortedArrayList containsAll() returned: " + sorted.containsAll(half)
+            + " with a sorted list, " + sorted.containsAll(halfUnsorted) + " with an unsorted list, "
+            + half.containsAll(sorted) + " for a missing element");
+        for(List<String> argument : Arrays.<List<String>>asList(half, halfUnsorted)){
+            String kind = (argument == half) ? "a sorted" : "an unsorted";
+            SortedArrayList<String> copy = (SortedArrayList<String>) sorted.clone();
+            copy.addAll(argument);
+            copy.addAll(argument);
+            Object[] merged = Arrays.copyOf(expected, expected.length + 2 * half.size());
+            System.arraycopy(half.toArray(), 0, merged, expected.length, half.size());
+            System.arraycopy(half.toArray(), 0, merged, expected.length + half.size(), half.size());
+            Arrays.sort(merged);
+            System.out.println("SortedArrayList addAll() with " + kind + " list returned: " + Arrays.equals(copy.toArray(), merged));
+            copy.removeAll(argument);
+            copy.removeAll(argument);
+            System.out.println("SortedArrayList removeAll() with " + kind + " list returned: " + Arrays.equals(copy.toArray(), expected));
+            copy.retainAll(argument);
+            System.out.println("SortedArrayList retainAll() with " + kind + " list returned: " + Arrays.equals(copy.toArray(), half.toArray()));
+        }
+        SortedArrayList<String> same = new SortedArrayList<String>();
+        for(int i = 0; i < 100000; i++)
+            same.add(country);
+        long start = System.nanoTime();
+        same.removeAll((SortedArrayList<String>) same.clone());
+        System.out.println("SortedArrayList removeAll() of equal elements returned: " + same.isEmpty()
+            + " in under a second: " + (System.nanoTime() - start < 1000000000L));
+        try{
+            same.add(null);
+            System.out.println("SortedArrayList add(null) was accepted");
+        }
+        catch(NullPointerException e){
+            System.out.println("SortedArrayList add(null) threw: " + e.getClass().getSimpleName() + ", size: " + same.size());
+        }
+    }
+    // Method to run reader threads against one writer on a ConcurrentArrayList
+    // The first STABLE elements are never removed, the readers check them while the writer
+    // adds, changes and removes elements after them
+    public static boolean testConcurrentArrayList(){
+        final int STABLE = 1000;
+        final int WRITES = 200000;
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<Integer>();
+        for(int i = 0; i < STABLE; i++)
+            list.add(i);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicBoolean correct = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for(int i = 0; i < WRITES; i++){
+                list.add(STABLE + i);
+                list.set(list.size() - 1, -i);
+                if(i % 2 == 1){
+                    list.remove(list.size() - 1);
+                    list.remove(list.size() - 1);
+                }
+            }
+            writing.set(false);
+        });
+        Thread[] readers = new Thread[3];
+        for(int r = 0; r < readers.length; r++){
+            readers[r] = new Thread(() -> {
+                int i = 0;
+                while(writing.get()){
+                    i = (i + 7) % STABLE;
+                    int size = list.size();
+                    if(list.get(i) != i || size < STABLE || size > STABLE + 2)
+                        correct.set(false);
+                }
+            });
+        }
+        writer.start();
+        for(Thread reader : readers)
+            reader.start();
+        try{
+            writer.join();
+            for(Thread reader : readers)
+                reader.join();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return correct.get() && list.size() == STABLE && list.get(STABLE - 1) == STABLE - 1;
+    }
+    // Method to remove the even values of a ConcurrentArrayList with its iterator while another thread
+    // inserts negative values at the front, which moves the elements under the iterator
+    public static boolean testConcurrentIterator(){
+        final int VALUES = 10000;
+        ConcurrentArrayList<Integer> list = new ConcurrentArrayList<Integer>();
+        for(int i = 0; i < VALUES; i++)
+            list.add(i);
+        Thread writer = new Thread(() -> {
+            for(int i = 1; i <= VALUES; i++)
+                list.add(0, -i);
+        });
+        writer.start();
+        ListIterator<Integer> iter = list.listIterator();
+        while(iter.hasNext()){
+            Integer value = iter.next();
+            if(value % 2 == 0)
+                iter.remove();
+            else if(value > 0)
+                iter.set(value);
+        }
         try{
-            Scanner read = new Scanner(file);
-            while(read.hasNextLine()){
-                list.add(read.nextLine());
+            writer.join();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        int[] counts = new int[2 * VALUES + 1];
+        for(Object value : list.toArray())
+            counts[(Integer) value + VALUES]++;
+        for(int i = -VALUES; i < VALUES; i++){
+            int expected = (i % 2 != 0) ? 1 : (i < 0) ? counts[i + VALUES] : 0;
+            if(counts[i + VALUES] != expected || expected > 1)
+                return false;
+        }
+        return true;
+    }
+    // Method to run producer threads calling addLast against consumer threads calling pollFirst
+    // Every value must be consumed exactly once
+    public static boolean testConcurrentLinkedList(){
+        final int VALUES = 100000;
+        ConcurrentLinkedList<Integer> queue = new ConcurrentLinkedList<Integer>();
+        AtomicIntegerArray seen = new AtomicIntegerArray(VALUES * 2);
+        AtomicInteger consumed = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for(int p = 0; p < 2; p++){
+            int first = p * VALUES;
+            threads[p] = new Thread(() -> {
+                for(int i = 0; i < VALUES; i++)
+                    queue.addLast(first + i);
+            });
+        }
+        for(int c = 2; c < threads.length; c++){
+            threads[c] = new Thread(() -> {
+                while(consumed.get() < VALUES * 2){
+                    Integer value = queue.pollFirst();
+                    if(value != null){
+                        seen.incrementAndGet(value);
+                        consumed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        for(Thread thread : threads)
+            thread.start();
+        try{
+            for(Thread thread : threads)
+                thread.join();
+        }
+        catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        for(int i = 0; i < VALUES * 2; i++){
+            if(seen.get(i) != 1)
+                return false;
+        }
+        return queue.isEmpty();
+    }
+    // Method to check that clones share nothing visible: for each write, a first clone is changed,
+    // then the original, and each time the other list and a third clone must keep their contents
+    public static void testCopyOnWrite(String name, List<String> list, UnaryOperator<List<String>> cloner){
+        Map<String, Consumer<List<String>>> writes = new LinkedHashMap<>();
+        writes.put("set()", copy -> copy.set(copy.size() / 2, "any country"));
+        writes.put("add()", copy -> copy.add("any country"));
+        writes.put("remove()", copy -> copy.remove(0));
+        writes.put("clear()", copy -> copy.clear());
+        writes.put("iterator remove()", copy -> {
+            ListIterator<String> iter = copy.listIterator();
+            while(iter.hasNext()){
+                iter.next();
+                if(iter.nextIndex() % 3 == 0)
+                    iter.remove();
             }
-            read.close();
+        });
+        writes.put("iterator add()", copy -> {
+            ListIterator<String> iter = copy.listIterator();
+            while(iter.hasNext()){
+                iter.next();
+                if(iter.nextIndex() % 5 == 0)
+                    iter.add("any country");
+            }
+        });
+        writes.put("sort()", copy -> copy.sort(Collections.reverseOrder()));
+        for(Map.Entry<String, Consumer<List<String>>> write : writes.entrySet()){
+            List<String> original = cloner.apply(list);
+            Object[] expected = original.toArray();
+            List<String> first = cloner.apply(original);
+            List<String> third = cloner.apply(original);
+            write.getValue().accept(first);
+            Object[] changed = first.toArray();
+            boolean returnValue = Arrays.equals(original.toArray(), expected) && Arrays.equals(third.toArray(), expected)
+                && !Arrays.equals(changed, expected);
+            write.getValue().accept(original);
+            returnValue = returnValue && Arrays.equals(first.toArray(), changed) && Arrays.equals(third.toArray(), expected)
+                && Arrays.equals(original.toArray(), changed);
+            System.out.println(name + " clones after " + write.getKey() + " returned: " + returnValue);
+        }
+    }
+    // Method to write snapshots of each kind of list one after the other to a file and read them back
+    // The primitive lists and the large list of strings span several buffer blocks
+    public static void testSnapshots(List<String> strings, List<String> nodes){
+        IntArrayList ints = new IntArrayList();
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        for(int i = 0; i < 100000; i++){
+            ints.addInt(i * 7);
+            longs.addLong(i * 1000000007L);
+            doubles.addDouble(i / 3.0);
         }
-        catch(FileNotFoundException e){
+        ArrayList<String> many = new ArrayList<String>();
+        for(int i = 0; i < 50000; i++)
+            many.add(strings.get(i % strings.size()) + " " + i);
+        ArrayList<String> empty = new ArrayList<String>();
+        ArrayList<String> arrayCopy = new ArrayList<String>();
+        LinkedList<String> linkedCopy = new LinkedList<String>();
+        ArrayList<String> manyCopy = new ArrayList<String>();
+        ArrayList<String> emptyCopy = new ArrayList<String>();
+        emptyCopy.add("stale");
+        IntArrayList intsCopy = new IntArrayList();
+        IntArrayList emptyIntsCopy = new IntArrayList();
+        LongArrayList longsCopy = new LongArrayList();
+        DoubleArrayList doublesCopy = new DoubleArrayList();
+        try{
+            Path path = Files.createTempFile("lists", ".snapshot");
+            try{
+                try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)){
+                    ((ArrayList<String>) strings).writeTo(channel);
+                    ((LinkedList<String>) nodes).writeTo(channel);
+                    many.writeTo(channel);
+                    empty.writeTo(channel);
+                    ints.writeTo(channel);
+                    new IntArrayList().writeTo(channel);
+                    longs.writeTo(channel);
+                    doubles.writeTo(channel);
+                }
+                try(FileChannel file = FileChannel.open(path, StandardOpenOption.READ)){
+                    // counts the reads, each one should fill a whole block of the buffer
+                    AtomicInteger reads = new AtomicInteger();
+                    ReadableByteChannel channel = new ReadableByteChannel(){
+                        public int read(ByteBuffer buffer) throws IOException{
+                            reads.incrementAndGet();
+                            return file.read(buffer);
+                        }
+                        public boolean isOpen(){
+                            return file.isOpen();
+                        }
+                        // the file is closed by the try
+                        public void close(){
+                        }
+                    };
+                    arrayCopy.readFrom(channel);
+                    linkedCopy.readFrom(channel);
+                    manyCopy.readFrom(channel);
+                    emptyCopy.readFrom(channel);
+                    intsCopy.readFrom(channel);
+                    emptyIntsCopy.readFrom(channel);
+                    longsCopy.readFrom(channel);
+                    doublesCopy.readFrom(channel);
+                    System.out.println("Snapshots left " + (file.size() - file.position()) + " bytes unread");
+                    System.out.println("Snapshots were read in whole blocks: " + (reads.get() <= file.size() / (1 << 16) + 2 * 8));
+                }
+            } finally {
+                Files.delete(path);
+            }
+        }
+        catch(IOException e){
+            System.out.println("Could not write or read the snapshots: " + e);
+            return;
+        }
+        System.out.println("ArrayList snapshot round trip returned: " + Arrays.equals(arrayCopy.toArray(), strings.toArray()));
+        System.out.println("LinkedList snapshot round trip returned: " + Arrays.equals(linkedCopy.toArray(), nodes.toArray()));
+        System.out.println("Large ArrayList snapshot round trip returned: " + Arrays.equals(manyCopy.toArray(), many.toArray()));
+        System.out.println("Empty ArrayList snapshot round trip returned: " + emptyCopy.isEmpty());
+        System.out.println("IntArrayList snapshot round trip returned: " + Arrays.equals(intsCopy.toArray(), ints.toArray()));
+        System.out.println("Empty IntArrayList snapshot round trip returned: " + emptyIntsCopy.isEmpty());
+        System.out.println("LongArrayList snapshot round trip returned: " + Arrays.equals(longsCopy.toArray(), longs.toArray()));
+        System.out.println("DoubleArrayList snapshot round trip returned: " + Arrays.equals(doublesCopy.toArray(), doubles.toArray()));
+    }
+    // Method to map a file once, its lines are decoded when copied into a list
+    public static MappedLineList readFile(String filename){
+        try{
+            return MappedLineList.open(filename);
+        }
+        catch(NoSuchFileException e){
             System.out.println("File not found.");
             System.exit(0);
         }
+        catch(IOException e){
+            System.out.println("Could not read " + filename + ": " + e.getMessage());
+            System.exit(0);
+        }
+        return null;
     }
     // Method to print list forward using the iterator returned by listIterator()
     public static <E> void printListForward(List<E> list){
@@ -94,7 +969,7 @@ public class Test{
     }
     // Method to print list backward using the iterator returned by listIterator(list.size())
     public static <E> void printListBackward(List<E> list){
-        ListIterator<E> index = list.listIterator(list.size()-1);
+        ListIterator<E> index = list.listIterator(list.size());
 
         System.out.print("[");
         while(index.hasPrevious()){
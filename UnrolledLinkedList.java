@@ -0,0 +1,443 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+/**
+ * Class UnrolledLinkedList
+ * Linked list whose nodes hold a small array of elements instead of a single element
+ * Date of creation: October 18, 2026
+ */
+public class UnrolledLinkedList<E> implements Cloneable, List<E>{
+    // Maximum number of elements in a node
+    private static final int NODE_CAPACITY = 64;
+    // A node holding fewer elements than this is merged with a neighbor when possible
+    private static final int MIN_FILL = NODE_CAPACITY / 2;
+    // Data members
+    private Node head, tail;
+    private int size;
+    // Finger: the last node reached by index and the index of its first element
+    private Node finger;
+    private int fingerStart;
+    // Inner class Node
+    private class Node{
+        Object[] items;
+        int count;
+        Node next;
+        Node previous;
+
+        // O(1)
+        Node(){
+            items = new Object[NODE_CAPACITY];
+            count = 0;
+            next = null;
+            previous = null;
+        }
+        // O(1)
+        E item(int offset){
+            return (E) items[offset];
+        }
+        // Insert value at offset, the node must not be full
+        // O(NODE_CAPACITY)
+        void insert(int offset, Object value){
+            System.arraycopy(items, offset, items, offset + 1, count - offset);
+            items[offset] = value;
+            count++;
+        }
+        // Remove the value at offset
+        // O(NODE_CAPACITY)
+        void delete(int offset){
+            System.arraycopy(items, offset + 1, items, offset, count - offset - 1);
+            items[--count] = null;
+        }
+    }
+    // Constructor
+    // O(1)
+    public UnrolledLinkedList(){
+        head = tail = null;
+        size = 0;
+    }
+    // Adding an item to the head of the list
+    // O(1)
+    public boolean addFirst(E item){
+        if(head == null || head.count == NODE_CAPACITY){
+            linkBefore(head, new Node());
+        }
+        head.insert(0, item);
+        finger = null;
+        size++;
+        return true;
+    }
+    // Adding an item to the end of the list
+    // O(1) amortized
+    public boolean addLast(E item){
+        if(tail == null || tail.count == NODE_CAPACITY){
+            linkAfter(tail, new Node());
+        }
+        tail.items[tail.count++] = item;
+        size++;
+        return true;
+    }
+    // Adding an item to the list
+    // O(1) amortized
+    public boolean add(E item){
+        return addLast(item);
+    }
+    // Adding an item to the list at a specific index
+    // O(n / NODE_CAPACITY)
+    public boolean add(int index, E item){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        if(index == size)
+            return addLast(item);
+        Node node = locate(index);
+        int offset = index - fingerStart;
+        if(node.count == NODE_CAPACITY){
+            // split the full node in two halves
+            Node upper = new Node();
+            int half = NODE_CAPACITY / 2;
+            System.arraycopy(node.items, half, upper.items, 0, NODE_CAPACITY - half);
+            Arrays.fill(node.items, half, NODE_CAPACITY, null);
+            upper.count = NODE_CAPACITY - half;
+            node.count = half;
+            linkAfter(node, upper);
+            if(offset > half){
+                upper.insert(offset - half, item);
+                size++;
+                return true;
+            }
+        }
+        node.insert(offset, item);
+        size++;
+        return true;
+    }
+    // Getting the item at the head of the list
+    // O(1)
+    public E getFirst(){
+        if(head == null)
+            throw new NoSuchElementException();
+        return head.item(0);
+    }
+    // Getting the element at the end of the list
+    // O(1)
+    public E getLast(){
+        if(head == null)
+            throw new NoSuchElementException();
+        return tail.item(tail.count - 1);
+    }
+    // Getting the item from the list
+    // O(1) near head, tail or the last index accessed - O(n / NODE_CAPACITY) otherwise
+    public E get(int index){
+        checkIndex(index);
+        return locate(index).item(index - fingerStart);
+    }
+    // Modify the value of an element in the list
+    // O(1) near head, tail or the last index accessed - O(n / NODE_CAPACITY) otherwise
+    public E set(int index, E value){
+        checkIndex(index);
+        Node node = locate(index);
+        int offset = index - fingerStart;
+        E oldValue = node.item(offset);
+        node.items[offset] = value;
+        return oldValue;
+    }
+    // Remove a value from the list
+    // O(n)
+    public boolean remove(Object o){
+        for(Node node = head; node != null; node = node.next){
+            for(int i = 0; i < node.count; i++){
+                if(Objects.equals(o, node.items[i])){
+                    finger = null;
+                    removeAt(node, i);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    // Remove an element from the list at a specific index
+    // O(n / NODE_CAPACITY)
+    public boolean remove(int index){
+        checkIndex(index);
+        Node node = locate(index);
+        removeAt(node, index - fingerStart);
+        return true;
+    }
+    // Removing the item at the head of the list
+    // O(NODE_CAPACITY)
+    public boolean removeFirst(){
+        if(head == null)
+            throw new NoSuchElementException();
+        finger = null;
+        removeAt(head, 0);
+        return true;
+    }
+    // Removing the item at the end of the list
+    // O(1)
+    public boolean removeLast(){
+        if(head == null)
+            throw new NoSuchElementException();
+        if(finger == tail)
+            finger = null;
+        removeAt(tail, tail.count - 1);
+        return true;
+    }
+    // Search for a value in the list
+    // O(n)
+    public boolean contains(Object o){
+        for(Node node = head; node != null; node = node.next){
+            Object[] items = node.items;
+            for(int i = 0; i < node.count; i++){
+                if(Objects.equals(o, items[i])){
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    // Find the node holding a valid index starting from the closest of head, tail and finger
+    // The finger is left on the node found, fingerStart is the index of its first element
+    // O(1) for nearby or sequential indexes - O(n / NODE_CAPACITY) otherwise
+    private Node locate(int index){
+        Node node;
+        int start;
+        if(index < (size >> 1)){
+            node = head;
+            start = 0;
+        } else {
+            node = tail;
+            start = size - tail.count;
+        }
+        if(finger != null && Math.abs(index - fingerStart) < Math.abs(index - start)){
+            node = finger;
+            start = fingerStart;
+        }
+        while(index >= start + node.count){
+            start += node.count;
+            node = node.next;
+        }
+        while(index < start){
+            node = node.previous;
+            start -= node.count;
+        }
+        finger = node;
+        fingerStart = start;
+        return node;
+    }
+    // Remove the element at offset in node, then unlink or merge the node if it became sparse
+    // The index of the first element of node does not change
+    // O(NODE_CAPACITY)
+    private void removeAt(Node node, int offset){
+        node.delete(offset);
+        size--;
+        if(node.count == 0){
+            if(finger == node)
+                finger = null;
+            unlink(node);
+        } else if(node.count < MIN_FILL && node.next != null
+                  && node.count + node.next.count <= NODE_CAPACITY){
+            Node next = node.next;
+            System.arraycopy(next.items, 0, node.items, node.count, next.count);
+            node.count += next.count;
+            if(finger == next)
+                finger = null;
+            unlink(next);
+        }
+    }
+    // Link newNode before node (or as the only node if node is null)
+    // O(1)
+    private void linkBefore(Node node, Node newNode){
+        if(node == null){
+            head = tail = newNode;
+            return;
+        }
+        newNode.next = node;
+        newNode.previous = node.previous;
+        if(node.previous == null)
+            head = newNode;
+        else
+            node.previous.next = newNode;
+        node.previous = newNode;
+    }
+    // Link newNode after node (or as the only node if node is null)
+    // O(1)
+    private void linkAfter(Node node, Node newNode){
+        if(node == null){
+            head = tail = newNode;
+            return;
+        }
+        newNode.previous = node;
+        newNode.next = node.next;
+        if(node.next == null)
+            tail = newNode;
+        else
+            node.next.previous = newNode;
+        node.next = newNode;
+    }
+    // Unlink a node from the chain
+    // O(1)
+    private void unlink(Node node){
+        if(node.previous == null)
+            head = node.next;
+        else
+            node.previous.next = node.next;
+        if(node.next == null)
+            tail = node.previous;
+        else
+            node.next.previous = node.previous;
+    }
+    // Check if the index is valid
+    // O(1)
+    private void checkIndex(int index){
+        if(index < 0 || index >= size)
+            throw new IndexOutOfBoundsException();
+    }
+    // toString() method
+    // O(n)
+    public String toString(){
+        StringBuilder output = new StringBuilder("[");
+        for(Node node = head; node != null; node = node.next){
+            for(int i = 0; i < node.count; i++){
+                output.append(node.items[i]).append(' ');
+            }
+        }
+        return output.append(']').toString();
+    }
+    // clear, check if empty, and size of the list
+    // O(1)
+    public void clear(){
+        head = tail = finger = null;
+        size = 0;
+    }
+    // O(1)
+    public boolean isEmpty(){
+        return (size == 0);
+    }
+    // O(1)
+    public int size(){
+        return size;
+    }
+    // Implementing an iterator for the list
+    // O(1)
+    public Iterator<E> iterator(){
+        return new UnrolledIterator();
+    }
+    // Inner class to implement the interface Iterator
+    private class UnrolledIterator implements Iterator<E>{
+        private Node node = head;
+        private int offset = 0;
+        // O(1)
+        public boolean hasNext(){
+            return node != null;
+        }
+        // O(1)
+        public E next(){
+            if(node == null)
+                throw new NoSuchElementException();
+            E value = node.item(offset++);
+            if(offset == node.count){
+                node = node.next;
+                offset = 0;
+            }
+            return value;
+        }
+    }
+    // Method to get a list iterator for the list
+    // O(1)
+    public ListIterator<E> listIterator(){
+        return new UnrolledListIterator(0);
+    }
+    // Method to get a list iterator for the list at a specific position
+    // O(1)
+    public ListIterator<E> listIterator(int index){
+        if(index < 0 || index > size)
+            throw new IndexOutOfBoundsException();
+        return new UnrolledListIterator(index);
+    }
+    // Inner class that implements the interface ListIterator<E>
+    // The cursor sits between the element returned by previous() and the one returned by next()
+    // Each step goes through the finger so it is O(1)
+    private class UnrolledListIterator implements ListIterator<E>{
+        private int cursor;
+        // O(1)
+        public UnrolledListIterator(int index){
+            this.cursor = index;
+        }
+        // O(1)
+        public boolean hasNext(){
+            return cursor < size;
+        }
+        // O(1)
+        public E next(){
+            if(cursor >= size)
+                throw new NoSuchElementException();
+            return get(cursor++);
+        }
+        // O(1)
+        public boolean hasPrevious(){
+            return cursor > 0;
+        }
+        // O(1)
+        public E previous(){
+            if(cursor <= 0)
+                throw new NoSuchElementException();
+            return get(--cursor);
+        }
+        // O(1)
+        public int nextIndex(){
+            return cursor;
+        }
+        // O(1)
+        public int previousIndex(){
+            return cursor - 1;
+        }
+        // O(1)
+        public void add(E value){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void remove(){
+            throw new UnsupportedOperationException();
+        }
+        // O(1)
+        public void set(E value){
+            throw new UnsupportedOperationException();
+        }
+    }
+    // Sort the list with a stable merge sort (TimSort) on a copy written back into the same nodes
+    // O(n log n)
+    public void sort(Comparator<? super E> c){
+        Object[] array = toArray();
+        Arrays.sort(array, (Comparator<Object>) c);
+        int i = 0;
+        for(Node node = head; node != null; node = node.next){
+            System.arraycopy(array, i, node.items, 0, node.count);
+            i += node.count;
+        }
+    }
+    // Method to get the elements of the list as an array of type Object
+    // O(n)
+    public Object[] toArray(){
+        Object[] array = new Object[size];
+        int i = 0;
+        for(Node node = head; node != null; node = node.next){
+            System.arraycopy(node.items, 0, array, i, node.count);
+            i += node.count;
+        }
+        return array;
+    }
+    // Clone method (deep copy)
+    // O(n)
+    public Object clone(){
+        UnrolledLinkedList<E> copy = new UnrolledLinkedList<>();
+        for(Node node = head; node != null; node = node.next){
+            Node newNode = copy.new Node();
+            System.arraycopy(node.items, 0, newNode.items, 0, node.count);
+            newNode.count = node.count;
+            copy.linkAfter(copy.tail, newNode);
+        }
+        copy.size = size;
+        return copy;
+    }
+}
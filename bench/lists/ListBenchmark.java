@@ -0,0 +1,202 @@
+package lists;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+/**
+ * Class ListBenchmark
+ * JMH benchmarks of every List operation for each implementation and size
+ * Operations that change the size are paired with their inverse so that the list keeps its size,
+ * bulk operations run on a clone and cloneList() gives the cost to subtract
+ * Run with -prof gc to get the allocation rate of each operation
+ * Date of creation: October 18, 2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmark{
+    // Number of precomputed random indexes, a power of two
+    private static final int INDEXES = 1 << 10;
+
+    @Param({"ArrayList", "LinkedList"})
+    public String impl;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    private List<Integer> list;
+    private List<Integer> other;
+    private int[] indexes;
+    private int cursor;
+    private Integer present;
+    private Integer absent;
+
+    // Create an empty list of the implementation under test
+    static List<Integer> newList(String impl){
+        switch(impl){
+            case "ArrayList": return new ArrayList<>();
+            case "LinkedList": return new LinkedList<>();
+            default: throw new IllegalArgumentException(impl);
+        }
+    }
+    // Copy a list with its own clone() method
+    static List<Integer> cloneOf(List<Integer> list){
+        if(list instanceof ArrayList)
+            return (List<Integer>) ((ArrayList<Integer>) list).clone();
+        return (List<Integer>) ((LinkedList<Integer>) list).clone();
+    }
+
+    @Setup
+    public void setup(){
+        list = newList(impl);
+        other = newList(impl);
+        for(int i = 0; i < size; i++){
+            list.add(i);
+            // other overlaps the second half of list
+            other.add(i + size / 2);
+        }
+        Random random = new Random(42);
+        indexes = new int[INDEXES];
+        for(int i = 0; i < INDEXES; i++)
+            indexes[i] = random.nextInt(size);
+        present = size / 2;
+        absent = -1;
+    }
+    // Next precomputed random index
+    private int nextIndex(){
+        return indexes[cursor++ & (INDEXES - 1)];
+    }
+
+    @Benchmark
+    public Integer indexedGet(){
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer indexedSet(){
+        int index = nextIndex();
+        return list.set(index, list.get(index));
+    }
+
+    @Benchmark
+    public boolean addRemoveHead(){
+        list.add(0, absent);
+        return list.remove(0);
+    }
+
+    @Benchmark
+    public boolean addRemoveMiddle(){
+        list.add(size / 2, absent);
+        return list.remove(size / 2);
+    }
+
+    @Benchmark
+    public boolean addRemoveTail(){
+        list.add(absent);
+        return list.remove(size);
+    }
+
+    @Benchmark
+    public boolean addRemoveObject(){
+        list.add(absent);
+        return list.remove(absent);
+    }
+
+    @Benchmark
+    public boolean containsHit(){
+        return list.contains(present);
+    }
+
+    @Benchmark
+    public boolean containsMiss(){
+        return list.contains(absent);
+    }
+
+    @Benchmark
+    public boolean containsAll(){
+        return list.containsAll(other);
+    }
+
+    @Benchmark
+    public List<Integer> cloneList(){
+        return cloneOf(list);
+    }
+
+    @Benchmark
+    public List<Integer> addAll(){
+        List<Integer> copy = cloneOf(list);
+        copy.addAll(other);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> removeAll(){
+        List<Integer> copy = cloneOf(list);
+        copy.removeAll(other);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> retainAll(){
+        List<Integer> copy = cloneOf(list);
+        copy.retainAll(other);
+        return copy;
+    }
+
+    // Expiry sweep: drops the first half of the values in one pass over a clone
+    @Benchmark
+    public List<Integer> removeIf(){
+        List<Integer> copy = cloneOf(list);
+        copy.removeIf(value -> value < present);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Integer> replaceAll(){
+        List<Integer> copy = cloneOf(list);
+        copy.replaceAll(value -> value + 1);
+        return copy;
+    }
+
+    @Benchmark
+    public Object[] toArray(){
+        return list.toArray();
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole){
+        Iterator<Integer> iter = list.iterator();
+        while(iter.hasNext())
+            blackhole.consume(iter.next());
+    }
+
+    @Benchmark
+    public void listIterate(Blackhole blackhole){
+        ListIterator<Integer> iter = list.listIterator();
+        while(iter.hasNext())
+            blackhole.consume(iter.next());
+    }
+
+    @Benchmark
+    public void indexedScan(Blackhole blackhole){
+        for(int i = 0; i < size; i++)
+            blackhole.consume(list.get(i));
+    }
+}
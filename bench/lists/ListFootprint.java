@@ -0,0 +1,47 @@
+package lists;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+/**
+ * Class ListFootprint
+ * Heap retained by each list implementation, per element, for sizes from 10 to 10M
+ * The Integer values are allocated before the measurement so only the list structure is counted
+ * Date of creation: October 18, 2026
+ */
+public class ListFootprint{
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    public static void main(String[] args){
+        String[] impls = {"ArrayList", "LinkedList"};
+        int[] sizes = {10, 1000, 100000, 10000000};
+        Integer[] values = new Integer[sizes[sizes.length - 1]];
+        for(int i = 0; i < values.length; i++)
+            values[i] = i;
+        System.out.printf("%-12s %10s %14s %12s%n", "impl", "size", "bytes/list", "bytes/elem");
+        usedHeap();
+        for(String impl : impls){
+            for(int size : sizes){
+                // small lists are measured over enough copies to rise above the noise
+                int copies = Math.max(1, 1000000 / size);
+                Object[] lists = new Object[copies];
+                long before = usedHeap();
+                for(int c = 0; c < copies; c++){
+                    List<Integer> list = ListBenchmark.newList(impl);
+                    for(int i = 0; i < size; i++)
+                        list.add(values[i]);
+                    lists[c] = list;
+                }
+                double bytes = (double) (usedHeap() - before) / copies;
+                System.out.printf("%-12s %10d %14.0f %12.1f%n", impl, size, bytes, bytes / size);
+                if(((List<Integer>) lists[copies - 1]).size() != size)
+                    throw new IllegalStateException();
+            }
+        }
+    }
+    // Used heap after a few full collections
+    private static long usedHeap(){
+        for(int i = 0; i < 4; i++)
+            System.gc();
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}